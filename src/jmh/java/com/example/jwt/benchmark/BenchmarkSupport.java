@@ -0,0 +1,48 @@
+package com.example.jwt.benchmark;
+
+import com.example.jwt.jwt.JwtKeyRing;
+import com.example.jwt.jwt.JwtKeyRingProperties;
+import com.example.jwt.jwt.TokenDenylist;
+import com.example.jwt.jwt.TokenProvider;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+* @package : com.example.jwt.benchmark
+* @name : BenchmarkSupport.java
+* @date : 2026-10-18 오후 1:10
+* @author : hj
+* @Description: 벤치마크에서 공통으로 사용하는 객체/설정 생성
+**/
+final class BenchmarkSupport {
+
+    //application.yml 의 jwt.secret 과 동일한 값
+    static final String SECRET = "c2lsdmVybmluZS10ZWNoLXNwcmluZy1ib290LWp3dC10dXRvcmlhbC1zZWNyZXQtc2lsdmVybmluZS10ZWNoLXNwcmluZy1ib290LWp3dC10dXRvcmlhbC1zZWNyZXQK";
+
+    private BenchmarkSupport() {
+    }
+
+    static TokenProvider tokenProvider(boolean cacheEnabled) {
+        JwtKeyRing keyRing = new JwtKeyRing(SECRET, new JwtKeyRingProperties(), 86400);
+        keyRing.afterPropertiesSet();
+        TokenProvider tokenProvider = new TokenProvider(keyRing, 86400, cacheEnabled, 10000,
+                new TokenDenylist(100000, 86400), false, null, new SimpleMeterRegistry());
+        tokenProvider.afterPropertiesSet();
+        return tokenProvider;
+    }
+
+    //tcp 서버 대신 인메모리 H2를 사용하고 스키마 생성 후 data.sql 실행
+    //application.yml 보다 우선 적용되어야 하므로 커맨드라인 인자 형태로 전달
+    static String[] inMemoryDatabaseArgs() {
+        return new String[]{
+                "--server.port=0",
+                "--spring.datasource.url=jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1",
+                "--spring.jpa.hibernate.ddl-auto=create-drop",
+                "--spring.sql.init.mode=always",
+                "--spring.jpa.properties.hibernate.show_sql=false",
+                "--spring.jpa.properties.hibernate.format_sql=false",
+                "--spring.devtools.restart.enabled=false",
+                "--spring.devtools.livereload.enabled=false",
+                "--logging.level.root=WARN"
+        };
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.jwt.benchmark;
+
+import com.example.jwt.jwt.JwtFilter;
+import com.example.jwt.jwt.TokenProvider;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import javax.servlet.FilterChain;
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+* @package : com.example.jwt.benchmark
+* @name : JwtFilterBenchmark.java
+* @date : 2026-10-18 오후 1:10
+* @author : hj
+* @Description: Mock 서블릿 객체로 JwtFilter.doFilter 한 번의 비용을 측정
+**/
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtFilterBenchmark {
+
+    @Param({"false", "true"})
+    public boolean cacheEnabled;
+
+    private JwtFilter jwtFilter;
+    private String authorizationHeader;
+
+    @Setup
+    public void setup() {
+        TokenProvider tokenProvider = BenchmarkSupport.tokenProvider(cacheEnabled);
+        jwtFilter = new JwtFilter(tokenProvider);
+        authorizationHeader = "Bearer " + tokenProvider.createToken(new UsernamePasswordAuthenticationToken("admin", "",
+                Arrays.asList(new SimpleGrantedAuthority("ROLE_USER"), new SimpleGrantedAuthority("ROLE_ADMIN"))));
+    }
+
+    //요청/응답 객체는 스레드별로 한 번만 만들어 재사용 (JwtFilter는 헤더만 읽으므로 상태가 변하지 않음)
+    @State(Scope.Thread)
+    public static class Exchange {
+        MockHttpServletRequest request;
+        MockHttpServletResponse response;
+        //실제 필터 체인 대신 SecurityContext 만 비워서 다음 호출이 같은 조건에서 시작되도록 함
+        final FilterChain chain = (request, response) -> SecurityContextHolder.clearContext();
+
+        @Setup
+        public void setup(JwtFilterBenchmark benchmark) {
+            request = new MockHttpServletRequest("GET", "/api/user");
+            request.addHeader(JwtFilter.AUTHORIZATION_HEADER, benchmark.authorizationHeader);
+            response = new MockHttpServletResponse();
+        }
+    }
+
+    @Benchmark
+    public void doFilter(Exchange exchange) throws Exception {
+        jwtFilter.doFilter(exchange.request, exchange.response, exchange.chain);
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.jwt.benchmark;
+
+import com.example.jwt.jwt.TokenProvider;
+import com.example.jwt.jwt.TokenValidationResult;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+/**
+* @package : com.example.jwt.benchmark
+* @name : TokenProviderBenchmark.java
+* @date : 2026-10-18 오후 1:10
+* @author : hj
+* @Description: TokenProvider의 토큰 생성/검증/인증정보 추출 성능 측정
+**/
+//./gradlew jmh 로 실행, gc 프로파일러로 연산당 할당량(gc.alloc.rate.norm)도 함께 측정
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class TokenProviderBenchmark {
+
+    //검증된 토큰 캐시 사용 여부에 따른 차이를 비교
+    @Param({"false", "true"})
+    public boolean cacheEnabled;
+
+    private TokenProvider tokenProvider;
+    private Authentication authentication;
+    private String token;
+
+    @Setup
+    public void setup() {
+        tokenProvider = BenchmarkSupport.tokenProvider(cacheEnabled);
+        authentication = new UsernamePasswordAuthenticationToken("admin", "",
+                Arrays.asList(new SimpleGrantedAuthority("ROLE_USER"), new SimpleGrantedAuthority("ROLE_ADMIN")));
+        token = tokenProvider.createToken(authentication);
+    }
+
+    @Benchmark
+    public String createToken() {
+        return tokenProvider.createToken(authentication);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return tokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public Authentication getAuthentication() {
+        return tokenProvider.getAuthentication(token);
+    }
+
+    //JwtFilter에서 사용하는 경로 (한 번의 검증으로 인증정보까지)
+    @Benchmark
+    public Authentication verifyAndGetAuthentication() {
+        TokenValidationResult result = tokenProvider.verifyToken(token);
+        return tokenProvider.getAuthentication(result);
+    }
+}
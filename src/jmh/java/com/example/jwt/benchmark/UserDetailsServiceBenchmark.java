@@ -0,0 +1,44 @@
+package com.example.jwt.benchmark;
+
+import com.example.jwt.JwtApplication;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+* @package : com.example.jwt.benchmark
+* @name : UserDetailsServiceBenchmark.java
+* @date : 2026-10-18 오후 1:10
+* @author : hj
+* @Description: 인메모리 H2 위에서 CustomUserDetailsService.loadUserByUsername 성능 측정
+**/
+//data.sql 의 admin 계정을 조회, 트랜잭션 + @EntityGraph 조인 비용까지 포함
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class UserDetailsServiceBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private UserDetailsService userDetailsService;
+
+    @Setup
+    public void setup() {
+        context = new SpringApplicationBuilder(JwtApplication.class)
+                .run(BenchmarkSupport.inMemoryDatabaseArgs());
+        userDetailsService = context.getBean("userDetailsService", UserDetailsService.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public UserDetails loadUserByUsername() {
+        return userDetailsService.loadUserByUsername("admin");
+    }
+}
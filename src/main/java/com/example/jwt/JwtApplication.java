@@ -2,12 +2,19 @@ package com.example.jwt;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling //만료된 refresh token 정리 등 주기적인 작업 실행
 public class JwtApplication {
 
 	public static void main(String[] args) {
-		SpringApplication.run(JwtApplication.class, args);
+		ConfigurableApplicationContext context = SpringApplication.run(JwtApplication.class, args);
+		//AppCDS 아카이브 생성용 실행(./gradlew cdsArchive), run()은 warm-up 까지 끝난 뒤 리턴하므로 그때까지 로딩된 클래스가 아카이브에 저장됨
+		if (context.getEnvironment().getProperty("app.cds.training-run", Boolean.class, false)) {
+			System.exit(SpringApplication.exit(context));
+		}
 	}
 
 }
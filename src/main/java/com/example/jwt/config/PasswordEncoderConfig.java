@@ -0,0 +1,31 @@
+package com.example.jwt.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+/**
+* @package : com.example.jwt.config
+* @name : PasswordEncoderConfig.java
+* @date : 2026-10-19 오전 2:10
+* @author : hj
+* @Description: 서블릿/WebFlux 런타임이 함께 사용하는 PasswordEncoder 설정 (SecurityConfig 에서 분리)
+**/
+@Configuration(proxyBeanMethods = false)
+public class PasswordEncoderConfig {
+
+    //알고리즘과 cost는 auth.password-hash 설정을 따르며, 이전 방식의 해시도 검증 가능 (PasswordEncoderFactory 참고)
+    //해시 수행 시간을 auth.password.encoder 메트릭으로 기록
+    @Bean
+    public PasswordEncoder passwordEncoder(
+            @Value("${auth.password-hash.algorithm:bcrypt}") String algorithm,
+            @Value("${auth.password-hash.bcrypt-strength:10}") int bcryptStrength,
+            @Value("${auth.password-hash.target-millis:250}") long targetMillis,
+            @Value("${auth.password-hash.pbkdf2-iterations:310000}") int pbkdf2Iterations,
+            MeterRegistry meterRegistry) {
+        PasswordEncoder encoder = PasswordEncoderFactory.create(algorithm, bcryptStrength, targetMillis, pbkdf2Iterations);
+        return new TimedPasswordEncoder(encoder, meterRegistry);
+    }
+}
@@ -0,0 +1,97 @@
+package com.example.jwt.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+* @package : com.example.jwt.config
+* @name : PasswordEncoderFactory.java
+* @date : 2026-10-18 오후 11:30
+* @author : hj
+* @Description: 설정된 알고리즘/cost로 해시를 만들고, 이전 방식의 해시도 검증할 수 있는 PasswordEncoder를 생성하는 클래스
+**/
+//새 해시는 "{bcrypt}$2a$..." 처럼 알고리즘 id를 앞에 붙여 저장하므로 이후에 알고리즘을 바꿔도 기존 해시를 그대로 검증할 수 있음
+//id가 없는 기존 해시(data.sql 등)는 BCrypt로 검증
+//upgradeEncoding() 은 id가 다르거나 BCrypt cost가 설정값보다 낮으면 true, 로그인 성공 시 PasswordRehashService가 새 해시로 교체
+public final class PasswordEncoderFactory {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordEncoderFactory.class);
+
+    public static final String BCRYPT = "bcrypt";
+    public static final String PBKDF2 = "pbkdf2";
+
+    //BCryptPasswordEncoder 가 허용하는 범위
+    private static final int MIN_BCRYPT_STRENGTH = 4;
+    private static final int MAX_BCRYPT_STRENGTH = 31;
+    //보정 시 기준으로 측정하는 cost (너무 낮으면 측정 오차가 커짐)
+    private static final int CALIBRATION_BASE_STRENGTH = 8;
+    private static final int CALIBRATION_SAMPLES = 3;
+
+    private PasswordEncoderFactory() {
+    }
+
+    /**
+    * @methodName : create
+    * @date : 2026-10-18 오후 11:30
+    * @author : hj
+    * @Description: algorithm 으로 새 해시를 만드는 DelegatingPasswordEncoder 생성
+    **/
+    //bcryptStrength 가 0 이하이면 현재 서버에서 한 번 해시하는 데 targetMillis 정도 걸리는 cost를 측정하여 사용
+    public static PasswordEncoder create(String algorithm, int bcryptStrength, long targetMillis, int pbkdf2Iterations) {
+        String idForEncode = algorithm.toLowerCase(Locale.ROOT);
+        int strength = bcryptStrength > 0 ? bcryptStrength : calibrateBcryptStrength(targetMillis);
+
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(strength);
+        Pbkdf2PasswordEncoder pbkdf2 = new Pbkdf2PasswordEncoder("", 16, pbkdf2Iterations, 256);
+        pbkdf2.setAlgorithm(Pbkdf2PasswordEncoder.SecretKeyFactoryAlgorithm.PBKDF2WithHmacSHA256);
+        pbkdf2.setEncodeHashAsBase64(true);  //password 컬럼 길이(100) 안에 들어가도록 hex 대신 Base64 사용
+
+        Map<String, PasswordEncoder> encoders = new HashMap<>();
+        encoders.put(BCRYPT, bcrypt);
+        encoders.put(PBKDF2, pbkdf2);
+        if (!encoders.containsKey(idForEncode)) {
+            throw new IllegalStateException("지원하지 않는 비밀번호 해시 알고리즘입니다: " + algorithm);
+        }
+
+        DelegatingPasswordEncoder encoder = new DelegatingPasswordEncoder(idForEncode, encoders);
+        //id가 없는 기존 해시
+        encoder.setDefaultPasswordEncoderForMatches(bcrypt);
+        logger.info("비밀번호 해시 알고리즘: {}, BCrypt cost: {}", idForEncode, strength);
+        return encoder;
+    }
+
+    /**
+    * @methodName : calibrateBcryptStrength
+    * @date : 2026-10-18 오후 11:30
+    * @author : hj
+    * @Description: 현재 서버에서 BCrypt 해시 한 번이 targetMillis 에 가장 가깝게 걸리는 cost를 리턴
+    **/
+    //cost가 1 오르면 해시 시간이 2배가 되므로 기준 cost를 측정한 뒤 log2 비율만큼 더함
+    //(높은 cost를 직접 여러 번 측정하면 서버 시작이 오래 걸리므로 기준 cost만 측정)
+    public static int calibrateBcryptStrength(long targetMillis) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(CALIBRATION_BASE_STRENGTH);
+        encoder.encode("calibration");  //첫 호출의 클래스 로딩, JIT 영향 제외
+        long best = Long.MAX_VALUE;
+        for (int i = 0; i < CALIBRATION_SAMPLES; i++) {
+            long start = System.nanoTime();
+            encoder.encode("calibration");
+            best = Math.min(best, System.nanoTime() - start);
+        }
+
+        double baseMillis = Math.max(best / 1_000_000.0, 0.01);
+        int strength = CALIBRATION_BASE_STRENGTH + (int) Math.round(Math.log(targetMillis / baseMillis) / Math.log(2));
+        strength = Math.max(MIN_BCRYPT_STRENGTH, Math.min(MAX_BCRYPT_STRENGTH, strength));
+        logger.info("BCrypt cost {} 측정 시간: {}ms, 목표 {}ms 에 맞춰 cost {} 선택 (예상 {}ms)",
+                CALIBRATION_BASE_STRENGTH, String.format("%.2f", baseMillis), targetMillis, strength,
+                Math.round(baseMillis * Math.pow(2, strength - CALIBRATION_BASE_STRENGTH)));
+        return strength;
+    }
+}
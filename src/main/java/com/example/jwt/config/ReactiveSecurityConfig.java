@@ -0,0 +1,230 @@
+package com.example.jwt.config;
+
+import com.example.jwt.jwt.RateLimiter;
+import com.example.jwt.jwt.ReactiveJwtFilter;
+import com.example.jwt.jwt.ReactiveRateLimitFilter;
+import com.example.jwt.jwt.TokenProvider;
+import com.example.jwt.service.AuthAuditLog;
+import com.example.jwt.service.PasswordCheckExecutor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UserDetailsRepositoryReactiveAuthenticationManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
+import org.springframework.security.config.annotation.web.reactive.EnableWebFluxSecurity;
+import org.springframework.security.config.web.server.SecurityWebFiltersOrder;
+import org.springframework.security.config.web.server.ServerHttpSecurity;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.web.server.SecurityWebFilterChain;
+import org.springframework.security.web.server.ServerAuthenticationEntryPoint;
+import org.springframework.security.web.server.authorization.ServerAccessDeniedHandler;
+import org.springframework.security.web.server.context.NoOpServerSecurityContextRepository;
+import org.springframework.security.web.server.header.XFrameOptionsServerHttpHeadersWriter;
+import org.springframework.security.web.server.savedrequest.NoOpServerRequestCache;
+import org.springframework.security.web.server.util.matcher.ServerWebExchangeMatchers;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+
+import java.security.Principal;
+
+/**
+* @package : com.example.jwt.config
+* @name : ReactiveSecurityConfig.java
+* @date : 2026-10-19 오전 2:10
+* @author : hj
+* @Description: WebFlux 런타임(reactive 프로필)에서 사용할 보안 설정, SecurityConfig 와 같은 규칙을 적용
+**/
+//서블릿 모드의 @PreAuthorize 대신 경로 규칙으로 권한 확인 (/api/user 는 USER/ADMIN, /api/user/** 와 /api/admin/** 은 ADMIN)
+//401, 403 응답은 JwtAuthenticationEntryPoint, JwtAccessDeniedHandler 와 같은 감사 로그, 메트릭으로 기록
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@EnableWebFluxSecurity
+public class ReactiveSecurityConfig {
+    private final TokenProvider tokenProvider;
+    private final RateLimiter rateLimiter;
+    private final AuthAuditLog authAuditLog;
+    private final MeterRegistry meterRegistry;
+
+    public ReactiveSecurityConfig(TokenProvider tokenProvider, RateLimiter rateLimiter,
+                                  AuthAuditLog authAuditLog, MeterRegistry meterRegistry) {
+        this.tokenProvider = tokenProvider;
+        this.rateLimiter = rateLimiter;
+        this.authAuditLog = authAuditLog;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+    * @methodName : securityWebFilterChain
+    * @date : 2026-10-19 오전 2:10
+    * @author : hj
+    * @Description: 인증 없이 접근 가능한 경로, 권한별 경로, JWT/요청 수 제한 필터 등록
+    **/
+    @Bean
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public SecurityWebFilterChain securityWebFilterChain(ServerHttpSecurity http) {
+        return http
+                .csrf().disable()  //token 방식이므로 csrf 설정 x
+                .httpBasic().disable()
+                .formLogin().disable()
+                .logout().disable()  //로그아웃은 /api/logout 에서 토큰을 폐기
+
+                .exceptionHandling() //예외처리 지정 401, 403
+                    .authenticationEntryPoint(authenticationEntryPoint())
+                    .accessDeniedHandler(accessDeniedHandler())
+
+                .and()
+                    .headers()
+                    .frameOptions()
+                    .mode(XFrameOptionsServerHttpHeadersWriter.Mode.SAMEORIGIN)
+
+                .and() //세션(WebSession)에 인증 정보, 요청 정보를 저장하지 않음 (STATELESS, 요청마다 세션이 생성되지 않도록 함)
+                    .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+                    .requestCache()
+                    .requestCache(NoOpServerRequestCache.getInstance())
+
+                .and()
+                    .authorizeExchange()
+                    .pathMatchers("/favicon.ico", "/css/**", "/js/**", "/img/**").permitAll()
+                    .pathMatchers("/prac/*").permitAll()
+                    .pathMatchers("/api/authenticate", "/api/reissue", "/api/signup").permitAll()
+                    .pathMatchers("/.well-known/jwks.json").permitAll()  //토큰 검증용 공개키
+                    .pathMatchers("/api/user").hasAnyRole("USER", "ADMIN")  //아래 /api/user/** 가 /api/user 도 포함하므로 먼저 확인
+                    .pathMatchers("/api/user/**", "/api/admin/**").hasRole("ADMIN")
+                    .anyExchange().authenticated()  //이외 나머지 요청은 인증이 필요
+
+                .and()
+                    .addFilterAt(new ReactiveJwtFilter(tokenProvider), SecurityWebFiltersOrder.AUTHENTICATION)
+                    .addFilterAfter(new ReactiveRateLimitFilter(rateLimiter), SecurityWebFiltersOrder.AUTHENTICATION)
+                    .build();
+    }
+
+    /**
+    * @methodName : actuatorSecurityWebFilterChain
+    * @date : 2026-10-18 오후 11:50
+    * @author : hj
+    * @Description: /actuator/** 요청은 ADMIN access token 또는 지표 수집기 계정(HTTP Basic)으로만 접근하도록 설정
+    **/
+    //SecurityConfig.actuatorFilterChain 과 같은 규칙, securityWebFilterChain 보다 먼저 확인됨
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public SecurityWebFilterChain actuatorSecurityWebFilterChain(
+            ServerHttpSecurity http,
+            @Value("${auth.actuator.scraper.username:prometheus}") String scraperUsername,
+            @Value("${auth.actuator.scraper.password:}") String scraperPassword) {
+        return http
+                .securityMatcher(ServerWebExchangeMatchers.pathMatchers("/actuator/**"))
+                .csrf().disable()
+                .formLogin().disable()
+                .logout().disable()
+
+                .httpBasic()
+                    .authenticationManager(scraperAuthenticationManager(scraperUsername, scraperPassword))
+                    .authenticationEntryPoint(authenticationEntryPoint())
+
+                .and()
+                    .exceptionHandling()
+                    .authenticationEntryPoint(authenticationEntryPoint())
+                    .accessDeniedHandler(accessDeniedHandler())
+
+                .and()
+                    .securityContextRepository(NoOpServerSecurityContextRepository.getInstance())
+                    .requestCache()
+                    .requestCache(NoOpServerRequestCache.getInstance())
+
+                .and()
+                    .authorizeExchange()
+                    .pathMatchers("/actuator/health/liveness", "/actuator/health/readiness").permitAll()  //로드밸런서 상태 확인
+                    .anyExchange().hasAnyRole("ADMIN", SecurityConfig.ACTUATOR_SCRAPER_ROLE)
+
+                .and()
+                    .addFilterAt(new ReactiveJwtFilter(tokenProvider), SecurityWebFiltersOrder.AUTHENTICATION)
+                    .build();
+    }
+
+    /**
+    * @methodName : reactiveAuthenticationManager
+    * @date : 2026-10-19 오전 2:10
+    * @author : hj
+    * @Description: 로그인 인증 (유저 조회 + 비밀번호 검증)을 PasswordCheckExecutor 의 전용 스레드에서 수행
+    **/
+    //서블릿 모드의 AuthenticationManager 와 같은 DaoAuthenticationProvider(CustomUserDetailsService, PasswordEncoder) 사용
+    //BCrypt가 Netty 이벤트 루프를 막지 않으며, 대기열이 가득 차면 RejectedExecutionException 으로 끝남 (컨트롤러에서 503)
+    @Bean
+    public ReactiveAuthenticationManager reactiveAuthenticationManager(UserDetailsService userDetailsService,
+                                                                       PasswordEncoder passwordEncoder,
+                                                                       PasswordCheckExecutor passwordCheckExecutor) {
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+        provider.setUserDetailsService(userDetailsService);
+        provider.setPasswordEncoder(passwordEncoder);
+        ProviderManager authenticationManager = new ProviderManager(provider);
+        return authentication -> Mono.defer(() ->
+                Mono.fromFuture(passwordCheckExecutor.submit(() -> authenticationManager.authenticate(authentication))));
+    }
+
+    //비밀번호({bcrypt}해시)가 없으면 수집기 계정 없음, BCrypt 검증은 UserDetailsRepositoryReactiveAuthenticationManager 가 별도 스케줄러에서 수행
+    private static ReactiveAuthenticationManager scraperAuthenticationManager(String username, String password) {
+        UserDetails scraper = StringUtils.hasText(password)
+                ? User.withUsername(username).password(password).roles(SecurityConfig.ACTUATOR_SCRAPER_ROLE).build()
+                : null;
+        UserDetailsRepositoryReactiveAuthenticationManager authenticationManager =
+                new UserDetailsRepositoryReactiveAuthenticationManager(name ->
+                        Mono.justOrEmpty(scraper).filter(user -> user.getUsername().equals(name)));
+        authenticationManager.setPasswordEncoder(PasswordEncoderFactories.createDelegatingPasswordEncoder());
+        return authenticationManager;
+    }
+
+    private ServerAuthenticationEntryPoint authenticationEntryPoint() {
+        Counter rejectedCounter = rejectedCounter(HttpStatus.UNAUTHORIZED, "인증 정보가 없어 401로 응답한 요청 수");
+        //ExceptionTranslationWebFilter 는 403 처리 중에도 commence 를 미리 호출해 두므로(switchIfEmpty) 구독될 때만 실행되도록 defer
+        return (exchange, e) -> Mono.defer(() -> {
+            rejectedCounter.increment();
+            authAuditLog.record(AuthAuditLog.EventType.UNAUTHORIZED, null, ReactiveJwtFilter.clientIp(exchange.getRequest()),
+                    requestLine(exchange.getRequest()));
+            return complete(exchange, HttpStatus.UNAUTHORIZED);
+        });
+    }
+
+    private ServerAccessDeniedHandler accessDeniedHandler() {
+        Counter rejectedCounter = rejectedCounter(HttpStatus.FORBIDDEN, "권한이 없어 403으로 응답한 요청 수");
+        return (exchange, denied) -> exchange.getPrincipal()
+                .map(Principal::getName)
+                .defaultIfEmpty("")
+                .flatMap(username -> {
+                    rejectedCounter.increment();
+                    authAuditLog.record(AuthAuditLog.EventType.ACCESS_DENIED, username.isEmpty() ? null : username,
+                            ReactiveJwtFilter.clientIp(exchange.getRequest()), requestLine(exchange.getRequest()));
+                    return complete(exchange, HttpStatus.FORBIDDEN);
+                });
+    }
+
+    //서블릿 모드와 같은 이름, 태그로 등록되므로 두 모드의 값을 같은 대시보드에서 비교 가능
+    private Counter rejectedCounter(HttpStatus status, String description) {
+        return Counter.builder("auth.access.rejected")
+                .tag("status", String.valueOf(status.value()))
+                .description(description)
+                .register(meterRegistry);
+    }
+
+    private static String requestLine(ServerHttpRequest request) {
+        return request.getMethodValue() + " " + request.getPath().value();
+    }
+
+    private static Mono<Void> complete(ServerWebExchange exchange, HttpStatus status) {
+        exchange.getResponse().setStatusCode(status);
+        return exchange.getResponse().setComplete();
+    }
+}
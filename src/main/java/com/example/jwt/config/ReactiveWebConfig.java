@@ -0,0 +1,48 @@
+package com.example.jwt.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.boot.web.embedded.netty.NettyReactiveWebServerFactory;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+/**
+* @package : com.example.jwt.config
+* @name : ReactiveWebConfig.java
+* @date : 2026-10-19 오전 2:10
+* @author : hj
+* @Description: WebFlux 런타임(reactive 프로필)에서 사용할 웹 서버와 블로킹 작업용 스케줄러 설정
+**/
+//spring-boot-starter-web 과 webflux 가 함께 있으면 reactive 모드에서도 Tomcat 이 먼저 선택되므로 Netty 를 직접 등록
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+public class ReactiveWebConfig {
+
+    /**
+    * @methodName : nettyReactiveWebServerFactory
+    * @date : 2026-10-19 오전 2:10
+    * @author : hj
+    * @Description: Netty 웹 서버, server.port 등은 Spring Boot 의 customizer 가 그대로 적용
+    **/
+    @Bean
+    public NettyReactiveWebServerFactory nettyReactiveWebServerFactory() {
+        return new NettyReactiveWebServerFactory();
+    }
+
+    /**
+    * @methodName : jdbcScheduler
+    * @date : 2026-10-19 오전 2:10
+    * @author : hj
+    * @Description: JPA/JDBC 조회처럼 블로킹되는 작업을 Netty 이벤트 루프 밖에서 실행하는 스케줄러
+    **/
+    //스레드가 커넥션 풀보다 많으면 커넥션을 기다리며 멈춰 있을 뿐이므로 Hikari 최대 커넥션 수만큼만 사용
+    //대기열이 가득 차면 RejectedExecutionException 이 발생하고 컨트롤러에서 503으로 응답
+    @Bean(destroyMethod = "dispose")
+    public Scheduler jdbcScheduler(
+            @Value("${spring.datasource.hikari.maximum-pool-size:10}") int threads,
+            @Value("${auth.reactive.jdbc-queue-capacity:1000}") int queueCapacity) {
+        return Schedulers.newBoundedElastic(threads, queueCapacity, "reactive-jdbc");
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.jwt.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.cache.CacheManager;
+import javax.cache.Caching;
+import java.net.URI;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+* @package : com.example.jwt.config
+* @name : SecondLevelCacheConfig.java
+* @date : 2026-10-19 오전 12:50
+* @author : hj
+* @Description: Hibernate 2차 캐시(엔티티, 컬렉션, 쿼리 결과)에 사용할 로컬 JCache(Caffeine) 캐시를 생성하는 클래스
+**/
+//findOneWithAuthoritiesByUsername 의 @EntityGraph 조회마다 users, user_authority, authority 조인이 실행되던 것을
+//쿼리 캐시(username -> user_id) + User/Authority 엔티티 캐시 + User.authorities 컬렉션 캐시로 DB 조회 없이 조립
+//JPA로 변경하면 Hibernate가 캐시를 함께 갱신하고, JDBC로 직접 변경하는 곳(PasswordRehashService, UserImportService)은 직접 삭제
+//DB를 직접 수정한 경우를 위해 Authority 외의 영역은 expire-after-write-seconds 후 만료
+//region 이름이 틀리면 서버 시작이 실패하도록 missing_cache_strategy: fail (application.yml)
+//적중률은 /actuator/metrics/hibernate.second.level.cache.requests (region, result=hit|miss),
+//hibernate.cache.query.requests 로 확인 (hibernate.generate_statistics)
+@Configuration(proxyBeanMethods = false)
+public class SecondLevelCacheConfig {
+
+    public static final String AUTHORITY_REGION = "authority";
+    public static final String USER_REGION = "user";
+    public static final String USER_AUTHORITIES_REGION = "user.authorities";
+    public static final String USER_BY_USERNAME_REGION = "user.by-username";
+
+    //Hibernate 기본 영역, 쿼리 캐시를 켜면 항상 생성됨
+    private static final String DEFAULT_QUERY_RESULTS_REGION = "default-query-results-region";
+    private static final String UPDATE_TIMESTAMPS_REGION = "default-update-timestamps-region";
+
+    /**
+    * @methodName : hibernateCacheManager
+    * @date : 2026-10-19 오전 12:50
+    * @author : hj
+    * @Description: 2차 캐시 영역을 미리 생성한 JCache CacheManager
+    **/
+    //Caffeine 캐시는 값을 복사하지 않고 그대로 보관 (Hibernate가 캐시에 넣는 값은 이미 분해된 불변 엔트리)
+    //CachingProvider는 JVM에 하나이므로 URI를 context 마다 다르게 두어, 같은 JVM에 context가 여러 개 떠 있어도
+    //(테스트 context 캐시, devtools 재시작) 영역 이름이 겹쳐 createCache 가 실패하지 않도록 함
+    @Bean(destroyMethod = "close")
+    public CacheManager hibernateCacheManager(
+            @Value("${auth.second-level-cache.maximum-size:10000}") long maximumSize,
+            @Value("${auth.second-level-cache.expire-after-write-seconds:300}") long expireAfterWriteSeconds) {
+        CaffeineCachingProvider provider = (CaffeineCachingProvider) Caching.getCachingProvider(CaffeineCachingProvider.class.getName());
+        CacheManager cacheManager = provider.getCacheManager(URI.create("hibernate-" + UUID.randomUUID()), getClass().getClassLoader());
+
+        //ROLE_USER, ROLE_ADMIN 등 몇 건뿐이고 거의 바뀌지 않으므로 만료 없음
+        cacheManager.createCache(AUTHORITY_REGION, configuration(100, 0));
+        cacheManager.createCache(USER_REGION, configuration(maximumSize, expireAfterWriteSeconds));
+        cacheManager.createCache(USER_AUTHORITIES_REGION, configuration(maximumSize, expireAfterWriteSeconds));
+        cacheManager.createCache(USER_BY_USERNAME_REGION, configuration(maximumSize, expireAfterWriteSeconds));
+        cacheManager.createCache(DEFAULT_QUERY_RESULTS_REGION, configuration(1000, expireAfterWriteSeconds));
+        //테이블별 마지막 변경 시각 (테이블 수만큼만 저장), 먼저 사라지면 오래된 쿼리 결과가 사용될 수 있으므로 만료 없음
+        cacheManager.createCache(UPDATE_TIMESTAMPS_REGION, configuration(0, 0));
+        return cacheManager;
+    }
+
+    /**
+    * @methodName : hibernateCacheCustomizer
+    * @date : 2026-10-19 오전 12:50
+    * @author : hj
+    * @Description: Hibernate가 위의 CacheManager를 2차 캐시로 사용하도록 설정
+    **/
+    @Bean
+    public HibernatePropertiesCustomizer hibernateCacheCustomizer(CacheManager hibernateCacheManager) {
+        return properties -> properties.put(ConfigSettings.CACHE_MANAGER, hibernateCacheManager);
+    }
+
+    //0이면 제한 없음
+    private static CaffeineConfiguration<Object, Object> configuration(long maximumSize, long expireAfterWriteSeconds) {
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>();
+        configuration.setStoreByValue(false);
+        if (maximumSize > 0) {
+            configuration.setMaximumSize(OptionalLong.of(maximumSize));
+        }
+        if (expireAfterWriteSeconds > 0) {
+            configuration.setExpireAfterWrite(OptionalLong.of(TimeUnit.SECONDS.toNanos(expireAfterWriteSeconds)));
+        }
+        return configuration;
+    }
+}
@@ -2,17 +2,28 @@ package com.example.jwt.config;
 
 import com.example.jwt.jwt.JwtAccessDeniedHandler;
 import com.example.jwt.jwt.JwtAuthenticationEntryPoint;
+import com.example.jwt.jwt.JwtFilter;
 import com.example.jwt.jwt.JwtSecurityConfig;
+import com.example.jwt.jwt.RateLimiter;
 import com.example.jwt.jwt.TokenProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.context.annotation.Bean;
+import org.springframework.core.annotation.Order;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.ProviderManager;
+import org.springframework.security.authentication.dao.DaoAuthenticationProvider;
 import org.springframework.security.config.annotation.method.configuration.EnableGlobalMethodSecurity;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.annotation.web.configuration.WebSecurityCustomizer;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.crypto.factory.PasswordEncoderFactories;
+import org.springframework.security.provisioning.InMemoryUserDetailsManager;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.www.BasicAuthenticationFilter;
+import org.springframework.util.StringUtils;
 
 /**
 * @package : com.example.jwt.config
@@ -21,26 +32,29 @@ import org.springframework.security.web.SecurityFilterChain;
 * @author : hj
 * @Description: Spring Security에서 사용할 보안 설정을 하는 클래스
 **/
+//WebFlux 런타임(reactive 프로필)에서는 ReactiveSecurityConfig 를 사용
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @EnableWebSecurity //기본적인 Web 보안 활성화
 @EnableGlobalMethodSecurity(prePostEnabled = true)
 public class SecurityConfig {
+    //운영 지표 수집기(Prometheus) 계정의 권한
+    public static final String ACTUATOR_SCRAPER_ROLE = "METRICS";
+
     private final TokenProvider tokenProvider;
     private final JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint;
     private final JwtAccessDeniedHandler jwtAccessDeniedHandler;
+    private final RateLimiter rateLimiter;
 
     public SecurityConfig(
             TokenProvider tokenProvider,
             JwtAuthenticationEntryPoint jwtAuthenticationEntryPoint,
-            JwtAccessDeniedHandler jwtAccessDeniedHandler
+            JwtAccessDeniedHandler jwtAccessDeniedHandler,
+            RateLimiter rateLimiter
     ) {
         this.tokenProvider = tokenProvider;
         this.jwtAuthenticationEntryPoint = jwtAuthenticationEntryPoint;
         this.jwtAccessDeniedHandler = jwtAccessDeniedHandler;
-    }
-
-    @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+        this.rateLimiter = rateLimiter;
     }
 
     @Bean
@@ -79,14 +93,72 @@ public class SecurityConfig {
                     .antMatchers("/prac/*").permitAll()  //해당 Path 요청들은 인증없이 접근 설정
 //                    .antMatchers("/api/*").permitAll()
                     .antMatchers("/api/authenticate").permitAll()
+                    .antMatchers("/api/reissue").permitAll()
                     .antMatchers("/api/signup").permitAll()
                     .antMatchers("/api/signin").permitAll()
+                    .antMatchers("/.well-known/jwks.json").permitAll()  //토큰 검증용 공개키
                     .anyRequest().authenticated()  //이외 나머지 요청은 인증이 필요
 
                 .and() // JwtFilter를 addFilterBefore로 등록했던 JwtSecurityConfig 클래스를 적용
-                    .apply(new JwtSecurityConfig(tokenProvider));
+                    .apply(new JwtSecurityConfig(tokenProvider, rateLimiter));
 
         return http.build();
 
     }
+
+    /**
+    * @methodName : actuatorFilterChain
+    * @date : 2026-10-18 오후 11:50
+    * @author : hj
+    * @Description: /actuator/** 요청은 ADMIN access token 또는 지표 수집기 계정(HTTP Basic)으로만 접근하도록 설정
+    **/
+    //로그인 실패/잠금 수, 요청 제한, 감사 로그 유실 수 등 운영 정보이므로 ROLE_USER 에게는 공개하지 않음
+    //access token은 짧게 만료되어 Prometheus 설정에 넣어둘 수 없으므로 수집기는 auth.actuator.scraper.* 계정을 사용
+    //위의 filterChain 보다 먼저 확인되며, 요청 수 제한(RateLimitFilter)은 적용하지 않음
+    @Bean
+    @Order(1)
+    public SecurityFilterChain actuatorFilterChain(
+            HttpSecurity http,
+            @Value("${auth.actuator.scraper.username:prometheus}") String scraperUsername,
+            @Value("${auth.actuator.scraper.password:}") String scraperPassword) throws Exception {
+        http
+                .antMatcher("/actuator/**")
+                .csrf().disable()
+
+                .exceptionHandling()
+                .authenticationEntryPoint(jwtAuthenticationEntryPoint)
+                .accessDeniedHandler(jwtAccessDeniedHandler)
+
+                .and()
+                    .sessionManagement()
+                    .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
+
+                .and()
+                    .authorizeRequests()
+                    .antMatchers("/actuator/health/liveness", "/actuator/health/readiness").permitAll()  //로드밸런서 상태 확인 (warm-up 이 끝나야 readiness UP)
+                    .anyRequest().hasAnyRole("ADMIN", ACTUATOR_SCRAPER_ROLE)
+
+                .and()
+                    .httpBasic()
+                    .authenticationEntryPoint(jwtAuthenticationEntryPoint)
+
+                .and()
+                    .authenticationManager(scraperAuthenticationManager(scraperUsername, scraperPassword))
+                    .addFilterBefore(new JwtFilter(tokenProvider), BasicAuthenticationFilter.class);
+
+        return http.build();
+    }
+
+    //로그인용 AuthenticationManager(DB 유저)와 분리된 수집기 전용 계정, 비밀번호가 없으면 계정 없음
+    //비밀번호는 {bcrypt}해시 형식 (로그인 메트릭에 섞이지 않도록 TimedPasswordEncoder 대신 기본 DelegatingPasswordEncoder 사용)
+    private static AuthenticationManager scraperAuthenticationManager(String username, String password) {
+        InMemoryUserDetailsManager users = new InMemoryUserDetailsManager();
+        if (StringUtils.hasText(password)) {
+            users.createUser(User.withUsername(username).password(password).roles(ACTUATOR_SCRAPER_ROLE).build());
+        }
+        DaoAuthenticationProvider provider = new DaoAuthenticationProvider();
+        provider.setUserDetailsService(users);
+        provider.setPasswordEncoder(PasswordEncoderFactories.createDelegatingPasswordEncoder());
+        return new ProviderManager(provider);
+    }
 }
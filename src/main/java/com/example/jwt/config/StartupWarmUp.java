@@ -0,0 +1,189 @@
+package com.example.jwt.config;
+
+import com.example.jwt.jwt.JwtFilter;
+import com.example.jwt.jwt.TokenProvider;
+import com.example.jwt.repository.UserRepository;
+import com.example.jwt.utils.AuthorityRegistry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.event.EventListener;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+* @package : com.example.jwt.config
+* @name : StartupWarmUp.java
+* @date : 2026-10-18 오후 11:55
+* @author : hj
+* @Description: 서버 시작 직후 토큰 생성/검증, 비밀번호 검증, 유저 조회 쿼리, 화면 렌더링을 미리 반복 실행하는 클래스
+**/
+//배포 직후에는 JIT 컴파일, Hibernate 쿼리 계획, Thymeleaf 템플릿 캐시가 비어 있어 첫 요청들이 몇 배 느리므로 트래픽을 받기 전에 미리 실행
+//ApplicationReadyEvent 리스너에서 동기로 실행되며, Spring Boot는 모든 리스너가 끝난 뒤에 readiness를 ACCEPTING_TRAFFIC 으로 바꿈
+//따라서 warm-up 동안 /actuator/health/readiness 는 OUT_OF_SERVICE(503)이고 로드밸런서는 트래픽을 보내지 않음
+//화면은 실제 요청과 같은 경로(보안 필터, JwtFilter, MVC, Thymeleaf)를 거치도록 loopback HTTP로 요청
+//단계별 소요 시간은 로그와 /actuator/metrics/app.warm-up (stage=token|password|query|page) 로 확인
+@Component
+public class StartupWarmUp {
+
+    private static final Logger logger = LoggerFactory.getLogger(StartupWarmUp.class);
+
+    //DB에 없는 유저명, 조회 쿼리는 결과 없이 실행되고 토큰은 warm-up 에서만 사용됨
+    private static final String WARM_UP_USERNAME = "warm-up";
+    private static final String WARM_UP_PASSWORD = "warm-up-password";
+
+    private final TokenProvider tokenProvider;
+    private final PasswordEncoder passwordEncoder;
+    private final UserRepository userRepository;
+    private final MeterRegistry meterRegistry;
+
+    private final boolean enabled;
+    private final int tokenIterations;
+    private final int passwordIterations;
+    private final int queryIterations;
+    private final int pageIterations;
+    private final List<String> pages;
+
+    public StartupWarmUp(
+            TokenProvider tokenProvider,
+            PasswordEncoder passwordEncoder,
+            UserRepository userRepository,
+            MeterRegistry meterRegistry,
+            @Value("${auth.warm-up.enabled:true}") boolean enabled,
+            @Value("${auth.warm-up.token-iterations:1000}") int tokenIterations,
+            @Value("${auth.warm-up.password-iterations:3}") int passwordIterations,
+            @Value("${auth.warm-up.query-iterations:50}") int queryIterations,
+            @Value("${auth.warm-up.page-iterations:20}") int pageIterations,
+            @Value("${auth.warm-up.pages:/api/signin}") List<String> pages) {
+        this.tokenProvider = tokenProvider;
+        this.passwordEncoder = passwordEncoder;
+        this.userRepository = userRepository;
+        this.meterRegistry = meterRegistry;
+        this.enabled = enabled;
+        this.tokenIterations = tokenIterations;
+        this.passwordIterations = passwordIterations;
+        this.queryIterations = queryIterations;
+        this.pageIterations = pageIterations;
+        this.pages = pages;
+    }
+
+    /**
+    * @methodName : warmUp
+    * @date : 2026-10-18 오후 11:55
+    * @author : hj
+    * @Description: 단계별 warm-up 실행, 실패한 단계는 로그만 남기고 다음 단계 진행 (서버 시작을 막지 않음)
+    **/
+    @EventListener
+    public void warmUp(ApplicationReadyEvent event) {
+        if (!enabled) {
+            return;
+        }
+        long start = System.nanoTime();
+        Authentication authentication = warmUpAuthentication();
+        String token = tokenProvider.createToken(authentication);
+
+        long tokenMillis = runStage("token", () -> warmUpTokens(authentication));
+        long passwordMillis = runStage("password", this::warmUpPasswords);
+        long queryMillis = runStage("query", this::warmUpQueries);
+        long pageMillis = event.getApplicationContext() instanceof WebServerApplicationContext
+                ? runStage("page", () -> warmUpPages((WebServerApplicationContext) event.getApplicationContext(), token))
+                : 0;
+
+        logger.info("warm-up 완료: {}ms (token {}ms, password {}ms, query {}ms, page {}ms)",
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                tokenMillis, passwordMillis, queryMillis, pageMillis);
+    }
+
+    private long runStage(String stage, Runnable task) {
+        long start = System.nanoTime();
+        try {
+            task.run();
+        } catch (RuntimeException e) {
+            logger.warn("warm-up '{}' 단계가 실패했습니다.", stage, e);
+        }
+        long elapsed = System.nanoTime() - start;
+        Timer.builder("app.warm-up")
+                .tag("stage", stage)
+                .description("서버 시작 시 warm-up 단계별 소요 시간")
+                .register(meterRegistry)
+                .record(elapsed, TimeUnit.NANOSECONDS);
+        return TimeUnit.NANOSECONDS.toMillis(elapsed);
+    }
+
+    //jjwt 서명/파싱, 권한 파싱, 검증된 토큰 캐시
+    private void warmUpTokens(Authentication authentication) {
+        for (int i = 0; i < tokenIterations; i++) {
+            tokenProvider.verifyToken(tokenProvider.createToken(authentication));
+        }
+    }
+
+    //일치/불일치 모두 실행 (BCrypt는 결과와 관계없이 같은 계산을 하지만 호출 경로가 다름)
+    private void warmUpPasswords() {
+        String encoded = passwordEncoder.encode(WARM_UP_PASSWORD);
+        for (int i = 0; i < passwordIterations; i++) {
+            passwordEncoder.matches(WARM_UP_PASSWORD, encoded);
+            passwordEncoder.matches(WARM_UP_USERNAME, encoded);
+        }
+    }
+
+    //로그인(UserCache)과 /api/user 에서 사용하는 쿼리, User/Authority 엔티티 메타데이터
+    private void warmUpQueries() {
+        for (int i = 0; i < queryIterations; i++) {
+            userRepository.findAuthorityRowsByUsername(WARM_UP_USERNAME);
+            userRepository.findOneWithAuthoritiesByUsername(WARM_UP_USERNAME);
+        }
+    }
+
+    //warm-up 토큰을 함께 보내므로 요청 수 제한은 IP가 아닌 warm-up 유저 기준으로 적용됨
+    private void warmUpPages(WebServerApplicationContext context, String token) {
+        int port = context.getWebServer().getPort();
+        for (String page : pages) {
+            for (int i = 0; i < pageIterations; i++) {
+                get("http://localhost:" + port + page, token);
+            }
+        }
+    }
+
+    private static void get(String url, String token) {
+        try {
+            HttpURLConnection connection = (HttpURLConnection) new URL(url).openConnection();
+            connection.setRequestProperty(JwtFilter.AUTHORIZATION_HEADER, "Bearer " + token);
+            connection.setConnectTimeout(5000);
+            connection.setReadTimeout(10000);
+            int status = connection.getResponseCode();
+            try (InputStream body = status < 400 ? connection.getInputStream() : connection.getErrorStream()) {
+                if (body != null) {
+                    body.transferTo(OutputStream.nullOutputStream());
+                }
+            }
+            if (status >= 400) {
+                throw new IllegalStateException(url + " 응답 코드: " + status);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException(url + " 요청 실패", e);
+        }
+    }
+
+    private static Authentication warmUpAuthentication() {
+        List<GrantedAuthority> authorities = Collections.singletonList(AuthorityRegistry.of("ROLE_USER"));
+        User principal = new User(WARM_UP_USERNAME, "", authorities);
+        return new UsernamePasswordAuthenticationToken(principal, "", authorities);
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.jwt.config;
+
+import com.example.jwt.jfr.PasswordMatchEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+* @package : com.example.jwt.config
+* @name : TimedPasswordEncoder.java
+* @date : 2026-10-18 오후 10:40
+* @author : hj
+* @Description: PasswordEncoder의 encode/matches 수행 시간을 기록하는 클래스
+**/
+//BCrypt는 로그인 지연의 대부분을 차지하므로 cost 변경이나 서버 사양 변경의 영향을 확인하기 위해 사용
+//수행 시간은 /actuator/metrics/auth.password.encoder (operation=encode|matches, result=match|mismatch) 로 확인
+//JFR 기록 중에는 검증(matches)마다 PasswordMatchEvent 를 남김
+public class TimedPasswordEncoder implements PasswordEncoder {
+
+    private static final String METRIC_NAME = "auth.password.encoder";
+
+    private final PasswordEncoder delegate;
+    private final Timer encodeTimer;
+    private final Timer matchTimer;
+    private final Timer mismatchTimer;
+
+    public TimedPasswordEncoder(PasswordEncoder delegate, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.encodeTimer = timer(meterRegistry, "encode", "none");
+        this.matchTimer = timer(meterRegistry, "matches", "match");
+        this.mismatchTimer = timer(meterRegistry, "matches", "mismatch");
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        long start = System.nanoTime();
+        try {
+            return delegate.encode(rawPassword);
+        } finally {
+            encodeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        PasswordMatchEvent event = new PasswordMatchEvent();
+        event.begin();
+        long start = System.nanoTime();
+        boolean matched = delegate.matches(rawPassword, encodedPassword);
+        (matched ? matchTimer : mismatchTimer).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.matched = matched;
+            event.commit();
+        }
+        return matched;
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    private static Timer timer(MeterRegistry meterRegistry, String operation, String result) {
+        return Timer.builder(METRIC_NAME)
+                .tag("operation", operation)
+                .tag("result", result)
+                .description("비밀번호 해시 생성/검증 시간")
+                .register(meterRegistry);
+    }
+}
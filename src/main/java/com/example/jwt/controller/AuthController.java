@@ -3,21 +3,37 @@ package com.example.jwt.controller;
 import com.example.jwt.dto.LoginDto;
 import com.example.jwt.dto.TokenDto;
 import com.example.jwt.jwt.JwtFilter;
+import com.example.jwt.jwt.TokenDenylist;
 import com.example.jwt.jwt.TokenProvider;
+import com.example.jwt.jwt.TokenValidationResult;
+import com.example.jwt.service.AuthAuditLog;
+import com.example.jwt.service.LoginAttemptGuard;
+import com.example.jwt.service.PasswordCheckExecutor;
+import com.example.jwt.service.PasswordRehashService;
+import com.example.jwt.service.RefreshTokenService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.config.annotation.authentication.builders.AuthenticationManagerBuilder;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
-import java.net.URI;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
 * @package : com.example.jwt.controller
@@ -26,15 +42,35 @@ import java.net.URI;
 * @author : hj
 * @Description: 권한 관련 클래스
 **/
+//reactive 프로필에서는 ReactiveAuthController 가 같은 경로를 처리
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @RestController
 @RequestMapping("/api")
 public class AuthController {
     private final TokenProvider tokenProvider;
     private final AuthenticationManagerBuilder authenticationManagerBuilder;
+    private final PasswordCheckExecutor passwordCheckExecutor;
+    private final RefreshTokenService refreshTokenService;
+    private final UserDetailsService userDetailsService;
+    private final TokenDenylist tokenDenylist;
+    private final LoginAttemptGuard loginAttemptGuard;
+    private final AuthAuditLog authAuditLog;
+    private final PasswordRehashService passwordRehashService;
 
-    public AuthController(TokenProvider tokenProvider, AuthenticationManagerBuilder authenticationManagerBuilder) {
+    public AuthController(TokenProvider tokenProvider, AuthenticationManagerBuilder authenticationManagerBuilder,
+                          PasswordCheckExecutor passwordCheckExecutor, RefreshTokenService refreshTokenService,
+                          UserDetailsService userDetailsService, TokenDenylist tokenDenylist,
+                          LoginAttemptGuard loginAttemptGuard, AuthAuditLog authAuditLog,
+                          PasswordRehashService passwordRehashService) {
         this.tokenProvider = tokenProvider;
         this.authenticationManagerBuilder = authenticationManagerBuilder;
+        this.passwordCheckExecutor = passwordCheckExecutor;
+        this.refreshTokenService = refreshTokenService;
+        this.userDetailsService = userDetailsService;
+        this.tokenDenylist = tokenDenylist;
+        this.loginAttemptGuard = loginAttemptGuard;
+        this.authAuditLog = authAuditLog;
+        this.passwordRehashService = passwordRehashService;
     }
 
     /**
@@ -43,8 +79,12 @@ public class AuthController {
     * @author : hj
     * @Description: 로그인 시 토큰 발급하는 메서드
     **/
+    //BCrypt 검증은 PasswordCheckExecutor의 전용 스레드에서 수행하고, 요청 스레드는 바로 반환됨(비동기 응답)
+    //전용 스레드풀의 대기열이 가득 차면 검증을 시도하지 않고 즉시 503 + Retry-After 응답
+    //실패가 많아 잠긴 username 또는 IP는 검증을 시도하지 않고 즉시 429 + Retry-After 응답
+    //성공/실패/잠김과 토큰 발급은 감사 로그(AuthAuditLog)에 비동기로 기록
     @PostMapping("/authenticate")
-    public ResponseEntity<TokenDto> authorize(@Valid LoginDto loginDto) {
+    public CompletableFuture<ResponseEntity<TokenDto>> authorize(@Valid LoginDto loginDto, HttpServletRequest request) {
         // form 태그 형식으로 데이터를 전송 받으므로 @RequestBody 불필요
         // 이 프로젝트가 아닌 다른 프로젝트에서 form 미 사용 시 붙이면 됨
 
@@ -52,8 +92,39 @@ public class AuthController {
         UsernamePasswordAuthenticationToken authenticationToken =
                 new UsernamePasswordAuthenticationToken(loginDto.getUsername(), loginDto.getPassword());
 
+        String clientIp = request.getRemoteAddr();
+        long retryAfterSeconds = loginAttemptGuard.checkBlocked(loginDto.getUsername(), clientIp);
+        if (retryAfterSeconds > 0) {
+            authAuditLog.record(AuthAuditLog.EventType.LOGIN_BLOCKED, loginDto.getUsername(), clientIp, null);
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                    .build());
+        }
+
+        try {
+            return passwordCheckExecutor.submit(() -> issueToken(authenticationToken, clientIp));
+        } catch (RejectedExecutionException e) {
+            return CompletableFuture.completedFuture(ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(passwordCheckExecutor.getRetryAfterSeconds()))
+                    .build());
+        }
+    }
+
+    private ResponseEntity<TokenDto> issueToken(UsernamePasswordAuthenticationToken authenticationToken, String clientIp) {
         //loadUserByUsername 메서드를 통해 유저정보를 조회하여 인증 정보 생성
-        Authentication authentication = authenticationManagerBuilder.getObject().authenticate(authenticationToken);
+        Authentication authentication;
+        try {
+            authentication = authenticationManagerBuilder.getObject().authenticate(authenticationToken);
+        } catch (AuthenticationException e) {
+            loginAttemptGuard.recordFailure(authenticationToken.getName(), clientIp);
+            authAuditLog.record(AuthAuditLog.EventType.LOGIN_FAILURE, authenticationToken.getName(), clientIp,
+                    e.getClass().getSimpleName());
+            throw e;
+        }
+        loginAttemptGuard.recordSuccess(authenticationToken.getName());
+        authAuditLog.record(AuthAuditLog.EventType.LOGIN_SUCCESS, authentication.getName(), clientIp, null);
+        //해시가 이전 방식이면 비동기로 새 방식의 해시로 교체 (응답을 기다리게 하지 않음)
+        passwordRehashService.rehashIfNeeded(authentication.getName(), authenticationToken.getCredentials());
         //loadUserByUsername 메서드를 호출하지 않았는데 넘어가는 이유
         //authenticationManangerBuilder.getObject().authenticate() 메소드가 실행되면
         //1. AuthenticationManager 의 구현체인 ProviderManager 의 authenticate() 메소드가 실행
@@ -62,16 +133,79 @@ public class AuthController {
         //3. 이어서 UserDetailsService 인터페이스의 loadUserByUsername() 메소드를 호출하게 됨
         //따라서 CustomUserDetailsService 구현체에 오버라이드된 loadUserByUsername() 메소드를 호출하게 됨
 
-        //위에서 리턴받은 유저 정보와 권한 정보를 인증 정보를 현재 실행중인 스레드(Security Context)에 저장
-        SecurityContextHolder.getContext().setAuthentication(authentication);
+        //인증은 전용 스레드에서 수행되므로 SecurityContextHolder에 저장하지 않음
+        //(요청 스레드의 Security Context가 아니며, 풀 스레드에 인증 정보가 남게 됨, STATELESS 설정이라 저장할 필요도 없음)
+
+        //유저정보를 통해 jwt토큰 생성, access token 재발급에 사용할 refresh token도 함께 발급
+        String jwt = tokenProvider.createToken(authentication);
+        String refreshToken = refreshTokenService.issue(authentication.getName());
+        authAuditLog.record(AuthAuditLog.EventType.TOKEN_ISSUED, authentication.getName(), clientIp, "authenticate");
+
+        return tokenResponse(jwt, refreshToken);
+    }
+
+    /**
+    * @methodName : reissue
+    * @date : 2026-10-18 오후 3:02
+    * @author : hj
+    * @Description: refresh token으로 access token과 refresh token을 재발급하는 메서드
+    **/
+    //사용된 refresh token은 폐기되고 새 refresh token이 발급됨(rotation)
+    //이미 사용된 refresh token이 다시 들어오면 같은 로그인에서 발급된 refresh token을 모두 폐기하고 401 리턴
+    @PostMapping("/reissue")
+    public ResponseEntity<TokenDto> reissue(@RequestParam String refreshToken, HttpServletRequest request) {
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(refreshToken);
 
-        //유저정보를 통해 jwt토큰 생성
+        //권한 변경이 반영되도록 재발급 시점의 유저 정보로 access token 생성
+        UserDetails userDetails = userDetailsService.loadUserByUsername(rotation.getUsername());
+        Authentication authentication =
+                new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
         String jwt = tokenProvider.createToken(authentication);
+        authAuditLog.record(AuthAuditLog.EventType.TOKEN_ISSUED, rotation.getUsername(), request.getRemoteAddr(), "reissue");
+
+        return tokenResponse(jwt, rotation.getRefreshToken());
+    }
+
+    /**
+    * @methodName : logout
+    * @date : 2026-10-18 오후 4:10
+    * @author : hj
+    * @Description: 현재 요청의 access token을 폐기하고, refresh token이 전달되면 함께 폐기하는 메서드
+    **/
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestParam(required = false) String refreshToken) {
+        //JwtFilter에서 저장한 Authentication의 credentials에 토큰 원문이 들어있음
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getCredentials() instanceof String) {
+            TokenValidationResult result = tokenProvider.verifyToken((String) authentication.getCredentials());
+            tokenProvider.revokeToken(result);
+        }
+        //로그아웃한 유저 본인의 refresh token만 폐기
+        if (refreshToken != null && authentication != null) {
+            refreshTokenService.revoke(refreshToken, authentication.getName());
+        }
+        return ResponseEntity.noContent().build();
+    }
+
+    /**
+    * @methodName : revokeUserTokens
+    * @date : 2026-10-18 오후 4:10
+    * @author : hj
+    * @Description: 해당 유저에게 발급된 모든 access token과 refresh token을 폐기하는 메서드
+    **/
+    @PostMapping("/admin/users/{username}/revoke-tokens")
+    @PreAuthorize("hasAnyRole('ADMIN')")  //admin 권한만 호출 가능
+    public ResponseEntity<Void> revokeUserTokens(@PathVariable String username) {
+        tokenDenylist.revokeAllIssuedBefore(username, System.currentTimeMillis());
+        refreshTokenService.revokeAllForUser(username);
+        return ResponseEntity.noContent().build();
+    }
 
+    private ResponseEntity<TokenDto> tokenResponse(String jwt, String refreshToken) {
         //헤더에 토큰정보를 포함
         HttpHeaders httpHeaders = new HttpHeaders();
         httpHeaders.add(JwtFilter.AUTHORIZATION_HEADER, "Bearer " + jwt);
 
-        return new ResponseEntity<>(new TokenDto(jwt), httpHeaders, HttpStatus.OK);
+        return new ResponseEntity<>(new TokenDto(jwt, refreshToken), httpHeaders, HttpStatus.OK);
     }
 }
\ No newline at end of file
@@ -0,0 +1,93 @@
+package com.example.jwt.controller;
+
+import com.example.jwt.jfr.AuthFlightRecorder;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.DeleteMapping;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+
+/**
+* @package : com.example.jwt.controller
+* @name : FlightRecorderController.java
+* @date : 2026-10-18 오후 11:05
+* @author : hj
+* @Description: 관리자용 JFR 연속 기록 시작/중지/덤프 API
+**/
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
+@RestController
+@RequestMapping("/api/admin/jfr")
+@PreAuthorize("hasAnyRole('ADMIN')")  //admin 권한만 호출 가능
+public class FlightRecorderController {
+
+    private final AuthFlightRecorder authFlightRecorder;
+
+    public FlightRecorderController(AuthFlightRecorder authFlightRecorder) {
+        this.authFlightRecorder = authFlightRecorder;
+    }
+
+    /**
+    * @methodName : start
+    * @date : 2026-10-18 오후 11:05
+    * @author : hj
+    * @Description: 연속 기록 시작, 이미 기록 중이면 409
+    **/
+    @PostMapping("/recording")
+    public ResponseEntity<Void> start() throws IOException, ParseException {
+        return authFlightRecorder.start()
+                ? ResponseEntity.status(HttpStatus.CREATED).build()
+                : ResponseEntity.status(HttpStatus.CONFLICT).build();
+    }
+
+    /**
+    * @methodName : stop
+    * @date : 2026-10-18 오후 11:05
+    * @author : hj
+    * @Description: 연속 기록 중지, 기록 중이 아니면 404
+    **/
+    @DeleteMapping("/recording")
+    public ResponseEntity<Void> stop() {
+        return authFlightRecorder.stop()
+                ? ResponseEntity.noContent().build()
+                : ResponseEntity.notFound().build();
+    }
+
+    /**
+    * @methodName : dump
+    * @date : 2026-10-18 오후 11:05
+    * @author : hj
+    * @Description: 현재까지의 기록을 .jfr 파일로 내려받음, 기록 중이 아니면 404
+    **/
+    //임시 파일은 응답을 모두 보낸 뒤 삭제
+    @GetMapping("/recording")
+    public ResponseEntity<StreamingResponseBody> dump() throws IOException {
+        Path file = authFlightRecorder.dump();
+        if (file == null) {
+            return ResponseEntity.notFound().build();
+        }
+        StreamingResponseBody body = outputStream -> {
+            try {
+                Files.copy(file, outputStream);
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_OCTET_STREAM)
+                .contentLength(Files.size(file))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + file.getFileName() + "\"")
+                .body(body);
+    }
+}
@@ -0,0 +1,35 @@
+package com.example.jwt.controller;
+
+import com.example.jwt.jwt.JwtKeyRing;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+* @package : com.example.jwt.controller
+* @name : JwksController.java
+* @date : 2026-10-18 오후 5:01
+* @author : hj
+* @Description: 토큰 검증용 공개키(JWK Set)를 제공하는 클래스
+**/
+//다른 서비스는 이 공개키로 토큰을 직접 검증할 수 있으므로 인증 서버를 호출하지 않아도 됨
+//비대칭 키(ES*, RS*)만 노출되며 HS* 비밀키는 노출되지 않음
+@RestController
+public class JwksController {
+    private final JwtKeyRing keyRing;
+
+    public JwksController(JwtKeyRing keyRing) {
+        this.keyRing = keyRing;
+    }
+
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<Map<String, Object>> jwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(5, TimeUnit.MINUTES).cachePublic())
+                .body(keyRing.jwks());
+    }
+}
@@ -0,0 +1,216 @@
+package com.example.jwt.controller;
+
+import com.example.jwt.dto.LoginDto;
+import com.example.jwt.dto.TokenDto;
+import com.example.jwt.jwt.JwtFilter;
+import com.example.jwt.jwt.ReactiveJwtFilter;
+import com.example.jwt.jwt.TokenDenylist;
+import com.example.jwt.jwt.TokenProvider;
+import com.example.jwt.jwt.TokenValidationResult;
+import com.example.jwt.service.AuthAuditLog;
+import com.example.jwt.service.LoginAttemptGuard;
+import com.example.jwt.service.PasswordCheckExecutor;
+import com.example.jwt.service.PasswordRehashService;
+import com.example.jwt.service.RefreshTokenService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.ReactiveAuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.ServerWebInputException;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import javax.validation.Valid;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+* @package : com.example.jwt.controller
+* @name : ReactiveAuthController.java
+* @date : 2026-10-19 오전 2:10
+* @author : hj
+* @Description: WebFlux 런타임(reactive 프로필)에서 AuthController 와 같은 로그인, 재발급, 로그아웃 API를 제공하는 클래스
+**/
+//Netty 이벤트 루프에서는 토큰 생성/검증처럼 짧은 CPU 작업만 수행
+//비밀번호 검증은 PasswordCheckExecutor(서블릿 모드와 같은 전용 스레드풀), JPA 호출은 jdbcScheduler 에서 실행
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RestController
+@RequestMapping("/api")
+public class ReactiveAuthController {
+    private final TokenProvider tokenProvider;
+    private final ReactiveAuthenticationManager reactiveAuthenticationManager;
+    private final PasswordCheckExecutor passwordCheckExecutor;
+    private final RefreshTokenService refreshTokenService;
+    private final UserDetailsService userDetailsService;
+    private final TokenDenylist tokenDenylist;
+    private final LoginAttemptGuard loginAttemptGuard;
+    private final AuthAuditLog authAuditLog;
+    private final PasswordRehashService passwordRehashService;
+    private final Scheduler jdbcScheduler;
+
+    public ReactiveAuthController(TokenProvider tokenProvider, ReactiveAuthenticationManager reactiveAuthenticationManager,
+                                  PasswordCheckExecutor passwordCheckExecutor, RefreshTokenService refreshTokenService,
+                                  UserDetailsService userDetailsService, TokenDenylist tokenDenylist,
+                                  LoginAttemptGuard loginAttemptGuard, AuthAuditLog authAuditLog,
+                                  PasswordRehashService passwordRehashService, Scheduler jdbcScheduler) {
+        this.tokenProvider = tokenProvider;
+        this.reactiveAuthenticationManager = reactiveAuthenticationManager;
+        this.passwordCheckExecutor = passwordCheckExecutor;
+        this.refreshTokenService = refreshTokenService;
+        this.userDetailsService = userDetailsService;
+        this.tokenDenylist = tokenDenylist;
+        this.loginAttemptGuard = loginAttemptGuard;
+        this.authAuditLog = authAuditLog;
+        this.passwordRehashService = passwordRehashService;
+        this.jdbcScheduler = jdbcScheduler;
+    }
+
+    /**
+    * @methodName : authorize
+    * @date : 2026-10-19 오전 2:10
+    * @author : hj
+    * @Description: 로그인 시 토큰 발급하는 메서드
+    **/
+    //잠긴 username 또는 IP는 429, 비밀번호 검증 대기열이 가득 차면 503, 인증 실패는 401 (AuthController 와 동일)
+    @PostMapping("/authenticate")
+    public Mono<ResponseEntity<TokenDto>> authorize(@Valid LoginDto loginDto, ServerWebExchange exchange) {
+        UsernamePasswordAuthenticationToken authenticationToken =
+                new UsernamePasswordAuthenticationToken(loginDto.getUsername(), loginDto.getPassword());
+
+        String clientIp = ReactiveJwtFilter.clientIp(exchange.getRequest());
+        long retryAfterSeconds = loginAttemptGuard.checkBlocked(loginDto.getUsername(), clientIp);
+        if (retryAfterSeconds > 0) {
+            authAuditLog.record(AuthAuditLog.EventType.LOGIN_BLOCKED, loginDto.getUsername(), clientIp, null);
+            return Mono.just(ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds))
+                    .build());
+        }
+
+        return reactiveAuthenticationManager.authenticate(authenticationToken)
+                .doOnError(AuthenticationException.class, e -> {
+                    loginAttemptGuard.recordFailure(authenticationToken.getName(), clientIp);
+                    authAuditLog.record(AuthAuditLog.EventType.LOGIN_FAILURE, authenticationToken.getName(), clientIp,
+                            e.getClass().getSimpleName());
+                })
+                .flatMap(authentication -> issueToken(authentication, authenticationToken, clientIp));
+    }
+
+    private Mono<ResponseEntity<TokenDto>> issueToken(Authentication authentication,
+                                                      UsernamePasswordAuthenticationToken authenticationToken, String clientIp) {
+        loginAttemptGuard.recordSuccess(authenticationToken.getName());
+        authAuditLog.record(AuthAuditLog.EventType.LOGIN_SUCCESS, authentication.getName(), clientIp, null);
+        passwordRehashService.rehashIfNeeded(authentication.getName(), authenticationToken.getCredentials());
+
+        String jwt = tokenProvider.createToken(authentication);
+        return Mono.fromCallable(() -> refreshTokenService.issue(authentication.getName()))
+                .subscribeOn(jdbcScheduler)
+                .map(refreshToken -> {
+                    authAuditLog.record(AuthAuditLog.EventType.TOKEN_ISSUED, authentication.getName(), clientIp, "authenticate");
+                    return tokenResponse(jwt, refreshToken);
+                });
+    }
+
+    /**
+    * @methodName : reissue
+    * @date : 2026-10-19 오전 2:10
+    * @author : hj
+    * @Description: refresh token으로 access token과 refresh token을 재발급하는 메서드
+    **/
+    @PostMapping("/reissue")
+    public Mono<ResponseEntity<TokenDto>> reissue(ServerWebExchange exchange) {
+        return param(exchange, "refreshToken")
+                .switchIfEmpty(Mono.error(() -> new ServerWebInputException("refreshToken 파라미터가 없습니다.")))
+                .flatMap(refreshToken -> Mono.fromCallable(() -> reissueToken(refreshToken, exchange)).subscribeOn(jdbcScheduler));
+    }
+
+    private ResponseEntity<TokenDto> reissueToken(String refreshToken, ServerWebExchange exchange) {
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(refreshToken);
+
+        UserDetails userDetails = userDetailsService.loadUserByUsername(rotation.getUsername());
+        Authentication authentication =
+                new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
+        String jwt = tokenProvider.createToken(authentication);
+        authAuditLog.record(AuthAuditLog.EventType.TOKEN_ISSUED, rotation.getUsername(),
+                ReactiveJwtFilter.clientIp(exchange.getRequest()), "reissue");
+
+        return tokenResponse(jwt, rotation.getRefreshToken());
+    }
+
+    /**
+    * @methodName : logout
+    * @date : 2026-10-19 오전 2:10
+    * @author : hj
+    * @Description: 현재 요청의 access token을 폐기하고, refresh token이 전달되면 함께 폐기하는 메서드
+    **/
+    @PostMapping("/logout")
+    public Mono<ResponseEntity<Void>> logout(Authentication authentication, ServerWebExchange exchange) {
+        //ReactiveJwtFilter 에서 저장한 Authentication의 credentials에 토큰 원문이 들어있음
+        if (authentication != null && authentication.getCredentials() instanceof String) {
+            TokenValidationResult result = tokenProvider.verifyToken((String) authentication.getCredentials());
+            tokenProvider.revokeToken(result);
+        }
+        if (authentication == null) {
+            return Mono.just(ResponseEntity.noContent().build());
+        }
+        //로그아웃한 유저 본인의 refresh token만 폐기
+        return param(exchange, "refreshToken")
+                .flatMap(refreshToken -> Mono.fromRunnable(() -> refreshTokenService.revoke(refreshToken, authentication.getName()))
+                        .subscribeOn(jdbcScheduler))
+                .then(Mono.just(ResponseEntity.noContent().build()));
+    }
+
+    /**
+    * @methodName : revokeUserTokens
+    * @date : 2026-10-19 오전 2:10
+    * @author : hj
+    * @Description: 해당 유저에게 발급된 모든 access token과 refresh token을 폐기하는 메서드 (ADMIN, ReactiveSecurityConfig 참고)
+    **/
+    @PostMapping("/admin/users/{username}/revoke-tokens")
+    public Mono<ResponseEntity<Void>> revokeUserTokens(@PathVariable String username) {
+        tokenDenylist.revokeAllIssuedBefore(username, System.currentTimeMillis());
+        return Mono.fromRunnable(() -> refreshTokenService.revokeAllForUser(username))
+                .subscribeOn(jdbcScheduler)
+                .then(Mono.just(ResponseEntity.noContent().build()));
+    }
+
+    //잘못된 토큰, 이미 사용된 refresh token, 인증 실패
+    @ExceptionHandler(AuthenticationException.class)
+    public ResponseEntity<Void> handleAuthenticationException(AuthenticationException e) {
+        return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+    }
+
+    //비밀번호 검증 또는 JPA 스케줄러의 대기열이 가득 참
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<Void> handleRejectedExecutionException(RejectedExecutionException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(passwordCheckExecutor.getRetryAfterSeconds()))
+                .build();
+    }
+
+    //서블릿의 @RequestParam 처럼 query string 과 form 본문에서 모두 찾음 (WebFlux 의 @RequestParam 은 query string 만 사용)
+    private static Mono<String> param(ServerWebExchange exchange, String name) {
+        String value = exchange.getRequest().getQueryParams().getFirst(name);
+        if (value != null) {
+            return Mono.just(value);
+        }
+        return exchange.getFormData().flatMap(form -> Mono.justOrEmpty(form.getFirst(name)));
+    }
+
+    private ResponseEntity<TokenDto> tokenResponse(String jwt, String refreshToken) {
+        HttpHeaders httpHeaders = new HttpHeaders();
+        httpHeaders.add(JwtFilter.AUTHORIZATION_HEADER, "Bearer " + jwt);
+
+        return new ResponseEntity<>(new TokenDto(jwt, refreshToken), httpHeaders, HttpStatus.OK);
+    }
+}
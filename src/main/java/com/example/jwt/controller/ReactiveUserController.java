@@ -0,0 +1,124 @@
+package com.example.jwt.controller;
+
+import com.example.jwt.dto.UserDto;
+import com.example.jwt.dto.UserInfoDto;
+import com.example.jwt.entity.User;
+import com.example.jwt.service.PasswordCheckExecutor;
+import com.example.jwt.service.UserService;
+import com.example.jwt.utils.SecurityUtil;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+
+import javax.validation.Valid;
+import java.util.Optional;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.function.Supplier;
+
+/**
+* @package : com.example.jwt.controller
+* @name : ReactiveUserController.java
+* @date : 2026-10-19 오전 2:10
+* @author : hj
+* @Description: WebFlux 런타임(reactive 프로필)에서 UserController 의 회원가입, 유저 정보 API를 제공하는 클래스
+**/
+//유저 정보는 jdbcScheduler 에서 UserCache 로 조회하고, 그 본문으로 만든 ETag가 같으면 본문 없이 304 응답
+//일괄 등록/내보내기/검색 API는 서블릿 모드에서만 제공
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.REACTIVE)
+@RestController
+@RequestMapping("/api")
+public class ReactiveUserController {
+    private final UserService userService;
+    private final PasswordCheckExecutor passwordCheckExecutor;
+    private final Scheduler jdbcScheduler;
+
+    public ReactiveUserController(UserService userService, PasswordCheckExecutor passwordCheckExecutor, Scheduler jdbcScheduler) {
+        this.userService = userService;
+        this.passwordCheckExecutor = passwordCheckExecutor;
+        this.jdbcScheduler = jdbcScheduler;
+    }
+
+    /**
+    * @methodName : signup
+    * @date : 2026-10-19 오전 2:10
+    * @author : hj
+    * @Description: 회원가입 메서드, 비밀번호 해시를 만들므로 PasswordCheckExecutor 에서 실행
+    **/
+    @PostMapping("/signup")
+    public Mono<ResponseEntity<User>> signup(@Valid @RequestBody UserDto userDto) {
+        return Mono.defer(() -> Mono.fromFuture(passwordCheckExecutor.submit(() -> userService.signup(userDto))))
+                .map(ResponseEntity::ok);
+    }
+
+    /**
+    * @methodName : getMyUserInfo
+    * @date : 2026-10-19 오전 2:10
+    * @author : hj
+    * @Description: 권한에 따라 User 정보 출력 (USER, ADMIN)
+    **/
+    @GetMapping("/user")
+    public Mono<ResponseEntity<UserInfoDto>> getMyUserInfo(Authentication authentication, ServerWebExchange exchange) {
+        Optional<String> username = SecurityUtil.getUsername(authentication);
+        if (username.isEmpty()) {
+            return Mono.just(ResponseEntity.status(HttpStatus.UNAUTHORIZED).build());
+        }
+        return userInfoResponse(exchange, () -> userService.getMyUserWithAuthorities(authentication));
+    }
+
+    /**
+    * @methodName : getUserInfo
+    * @date : 2026-10-19 오전 2:10
+    * @author : hj
+    * @Description: username 파라미터를 통해 해당 유저의 정보 및 권한 정보 리턴 (ADMIN)
+    **/
+    @GetMapping("/user/{username}")
+    public Mono<ResponseEntity<UserInfoDto>> getUserInfo(@PathVariable String username, ServerWebExchange exchange) {
+        return userInfoResponse(exchange, () -> userService.getUserWithAuthorities(username));
+    }
+
+    //비밀번호 검증 또는 JPA 스케줄러의 대기열이 가득 참
+    @ExceptionHandler(RejectedExecutionException.class)
+    public ResponseEntity<Void> handleRejectedExecutionException(RejectedExecutionException e) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(passwordCheckExecutor.getRetryAfterSeconds()))
+                .build();
+    }
+
+    //UserController 와 같은 캐시 헤더 (no-cache, private, Vary: Authorization)
+    private Mono<ResponseEntity<UserInfoDto>> userInfoResponse(ServerWebExchange exchange,
+                                                              Supplier<Optional<UserInfoDto>> lookup) {
+        return Mono.fromCallable(lookup::get)
+                .subscribeOn(jdbcScheduler)
+                .map(userInfo -> userInfo
+                        .map(body -> userInfoResponse(body, exchange))
+                        .orElseGet(() -> ResponseEntity.notFound().build()));
+    }
+
+    //ETag는 응답 본문으로 만들고, If-None-Match가 같으면 본문 없이 304
+    private ResponseEntity<UserInfoDto> userInfoResponse(UserInfoDto userInfo, ServerWebExchange exchange) {
+        String eTag = userService.getUserETag(userInfo);
+        if (exchange.checkNotModified(eTag)) {
+            return headers(HttpStatus.NOT_MODIFIED).build();
+        }
+        return headers(HttpStatus.OK).eTag(eTag).body(userInfo);
+    }
+
+    private static ResponseEntity.BodyBuilder headers(HttpStatus status) {
+        return ResponseEntity.status(status)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .varyBy(HttpHeaders.AUTHORIZATION);
+    }
+}
@@ -1,14 +1,32 @@
 package com.example.jwt.controller;
 
 import com.example.jwt.dto.UserDto;
+import com.example.jwt.dto.UserImportResultDto;
+import com.example.jwt.dto.UserInfoDto;
+import com.example.jwt.dto.UserPageDto;
+import com.example.jwt.dto.UserSearchResultDto;
 import com.example.jwt.entity.User;
+import com.example.jwt.service.UserExportService;
+import com.example.jwt.service.UserImportService;
+import com.example.jwt.service.UserSearchService;
 import com.example.jwt.service.UserService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.context.request.async.WebAsyncTask;
 
+import javax.servlet.http.HttpServletResponse;
 import javax.validation.Valid;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
 
 /**
 * @package : com.example.jwt.controller
@@ -17,14 +35,23 @@ import javax.validation.Valid;
 * @author : hj
 * @Description: User 관련 클래스
 **/
+//reactive 프로필에서는 ReactiveUserController 가 /api/user, /api/signup 을 처리
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @Controller
 @RequestMapping("/api")
 public class UserController {
     private final UserService userService;
+    private final UserImportService userImportService;
+    private final UserExportService userExportService;
+    private final UserSearchService userSearchService;
 
     private AuthController authController;
-    public UserController(UserService userService) {
+    public UserController(UserService userService, UserImportService userImportService,
+                          UserExportService userExportService, UserSearchService userSearchService) {
         this.userService = userService;
+        this.userImportService = userImportService;
+        this.userExportService = userExportService;
+        this.userSearchService = userSearchService;
     }
 
     /**
@@ -43,6 +70,70 @@ public class UserController {
         //Reponse body에는 데이터 값이 들어있음
     }
 
+    /**
+    * @methodName : importUsers
+    * @date : 2026-10-18 오후 7:20
+    * @author : hj
+    * @Description: 유저 일괄 등록 메서드 (본문은 한 줄에 UserDto JSON 하나인 NDJSON)
+    **/
+    //본문을 스트림으로 읽으면서 등록하므로 @RequestBody로 받지 않음, 실패한 줄은 응답의 errors로 리턴
+    @PostMapping(value = "/admin/users/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    @ResponseBody
+    @PreAuthorize("hasAnyRole('ADMIN')")  //admin 권한만 호출 가능
+    public ResponseEntity<UserImportResultDto> importUsers(InputStream inputStream) throws IOException {
+        return ResponseEntity.ok(userImportService.importUsers(inputStream));
+    }
+
+    /**
+    * @methodName : getUsers
+    * @date : 2026-10-18 오후 8:05
+    * @author : hj
+    * @Description: 유저 목록 조회 메서드 (user_id 순, 이전 응답의 nextAfterId를 afterId로 넘기면 다음 페이지)
+    **/
+    @GetMapping("/admin/users")
+    @ResponseBody
+    @PreAuthorize("hasAnyRole('ADMIN')")  //admin 권한만 호출 가능
+    public ResponseEntity<UserPageDto> getUsers(
+            @RequestParam(defaultValue = "0") long afterId,
+            @RequestParam(defaultValue = "50") int size) {
+        return ResponseEntity.ok(userExportService.getUsers(afterId, size));
+    }
+
+    /**
+    * @methodName : searchUsers
+    * @date : 2026-10-18 오후 8:40
+    * @author : hj
+    * @Description: username 또는 nickname이 q로 시작하는 유저 검색 메서드 (자동완성용)
+    **/
+    @GetMapping("/admin/users/search")
+    @ResponseBody
+    @PreAuthorize("hasAnyRole('ADMIN')")  //admin 권한만 호출 가능
+    public ResponseEntity<List<UserSearchResultDto>> searchUsers(
+            @RequestParam String q,
+            @RequestParam(defaultValue = "10") int limit) {
+        return ResponseEntity.ok(userSearchService.search(q, limit));
+    }
+
+    /**
+    * @methodName : exportUsers
+    * @date : 2026-10-18 오후 8:05
+    * @author : hj
+    * @Description: 전체 유저 내보내기 메서드 (한 줄에 유저 하나인 NDJSON)
+    **/
+    //요청 스레드가 아닌 MVC 비동기 스레드에서 응답 스트림에 직접 씀
+    //StreamingResponseBody는 기본 비동기 제한 시간(Tomcat 30초)을 사용해 큰 내보내기가 중간에 끊기므로
+    //WebAsyncTask로 auth.user-export.timeout-seconds 를 지정, 본문은 직접 썼으므로 null 리턴 (@ResponseBody라 뷰를 찾지 않고 더 쓰지 않음)
+    @GetMapping(value = "/admin/users/export", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    @ResponseBody
+    @PreAuthorize("hasAnyRole('ADMIN')")  //admin 권한만 호출 가능
+    public WebAsyncTask<Void> exportUsers(HttpServletResponse response) {
+        response.setContentType(MediaType.APPLICATION_NDJSON_VALUE);
+        return new WebAsyncTask<>(userExportService.getTimeoutMillis(), () -> {
+            userExportService.exportUsers(response.getOutputStream());
+            return null;
+        });
+    }
+
     /**
     * @methodName : signin
     * @date : 2023-04-20 오전 10:42
@@ -63,14 +154,30 @@ public class UserController {
     @GetMapping("/user")
     @ResponseBody
     @PreAuthorize("hasAnyRole('USER','ADMIN')") //user와 admin 모두 호출 가능하게 설정
-    public ResponseEntity<User> getMyUserInfo() {  //Security Context에 저장되어 있는 인증 정보의 username을 기준으로 한 유저정보 및 권한정보를 리턴
-        return ResponseEntity.ok(userService.getMyUserWithAuthorities().get());
+    public ResponseEntity<UserInfoDto> getMyUserInfo(WebRequest webRequest) {  //Security Context에 저장되어 있는 인증 정보의 username을 기준으로 한 유저정보 및 권한정보를 리턴
+        return userInfoResponse(userService.getMyUserWithAuthorities().get(), webRequest);
     }
 
     @GetMapping("/user/{username}")
     @ResponseBody
     @PreAuthorize("hasAnyRole('ADMIN')")  //admin 권한만 호출 가능
-    public ResponseEntity<User> getUserInfo(@PathVariable String username) {  //username 파라미터를 통해 해당 유저의 정보 및 권한 정보 리턴
-        return ResponseEntity.ok(userService.getUserWithAuthorities(username).get());
+    public ResponseEntity<UserInfoDto> getUserInfo(@PathVariable String username, WebRequest webRequest) {  //username 파라미터를 통해 해당 유저의 정보 및 권한 정보 리턴
+        return userInfoResponse(userService.getUserWithAuthorities(username).get(), webRequest);
+    }
+
+    //ETag는 응답 본문으로 만들고, If-None-Match가 같으면 본문 없이 304
+    private ResponseEntity<UserInfoDto> userInfoResponse(UserInfoDto userInfo, WebRequest webRequest) {
+        String eTag = userService.getUserETag(userInfo);
+        if (webRequest.checkNotModified(eTag)) {
+            return userInfoResponse(HttpStatus.NOT_MODIFIED).build();  //ETag 헤더는 checkNotModified에서 설정됨
+        }
+        return userInfoResponse(HttpStatus.OK).eTag(eTag).body(userInfo);
+    }
+
+    //유저 정보 응답 공통 헤더, 캐시는 하되 매번 ETag로 재검증 (no-cache), 토큰별로 응답이 다르므로 Vary: Authorization
+    private static ResponseEntity.BodyBuilder userInfoResponse(HttpStatus status) {
+        return ResponseEntity.status(status)
+                .cacheControl(CacheControl.noCache().cachePrivate())
+                .varyBy(HttpHeaders.AUTHORIZATION);
     }
 }
\ No newline at end of file
@@ -17,5 +17,6 @@ import lombok.*;
 @AllArgsConstructor
 @NoArgsConstructor
 public class TokenDto {
-    private String token;
+    private String token;         //access token
+    private String refreshToken;  //access token 재발급용 (/api/reissue)
 }
\ No newline at end of file
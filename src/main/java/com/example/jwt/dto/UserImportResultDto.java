@@ -0,0 +1,36 @@
+package com.example.jwt.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+* @package : com.example.jwt.dto
+* @name : UserImportResultDto.java
+* @date : 2026-10-18 오후 7:20
+* @author : hj
+* @Description: 유저 일괄 등록(/api/admin/users/import) 결과 응답에 사용
+**/
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserImportResultDto {
+    private int total;      //처리한 row 수 (빈 줄 제외)
+    private int imported;   //등록된 유저 수
+    private int failed;     //실패한 row 수
+    private List<ErrorDto> errors;   //실패 사유, 최대 auth.user-import.max-reported-errors 건
+    private boolean errorsTruncated; //실패 사유가 잘려서 일부만 포함되었는지 여부
+
+    @Getter
+    @Setter
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class ErrorDto {
+        private int line;         //요청 본문의 줄 번호 (1부터 시작)
+        private String username;  //JSON 형식 오류인 경우 null
+        private String message;
+    }
+}
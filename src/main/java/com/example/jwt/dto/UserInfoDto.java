@@ -0,0 +1,33 @@
+package com.example.jwt.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+* @package : com.example.jwt.dto
+* @name : UserInfoDto.java
+* @date : 2026-10-18 오후 6:45
+* @author : hj
+* @Description: 유저 정보 조회(/api/user, /api/user/{username}) 응답에 사용
+**/
+//User 엔티티를 그대로 직렬화하지 않고 필요한 값만 담아서 응답 (JSON 형식은 기존 엔티티 응답과 동일)
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserInfoDto {
+    private String username;
+    private String nickname;
+    private List<AuthorityDto> authorities;
+
+    @Getter
+    @Setter
+    @Builder
+    @AllArgsConstructor
+    @NoArgsConstructor
+    public static class AuthorityDto {
+        private String authorityName;
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.jwt.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+* @package : com.example.jwt.dto
+* @name : UserPageDto.java
+* @date : 2026-10-18 오후 8:05
+* @author : hj
+* @Description: 관리자용 유저 목록(/api/admin/users) 한 페이지 응답에 사용
+**/
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserPageDto {
+    private List<UserSummaryDto> users;
+    private Long nextAfterId;  //다음 페이지 요청 시 afterId로 전달, 마지막 페이지면 null
+}
@@ -0,0 +1,21 @@
+package com.example.jwt.dto;
+
+import lombok.*;
+
+/**
+* @package : com.example.jwt.dto
+* @name : UserSearchResultDto.java
+* @date : 2026-10-18 오후 8:40
+* @author : hj
+* @Description: 관리자용 유저 검색(/api/admin/users/search) 결과 한 건
+**/
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserSearchResultDto {
+    private Long userId;
+    private String username;
+    private String nickname;
+}
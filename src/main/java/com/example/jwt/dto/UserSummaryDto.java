@@ -0,0 +1,25 @@
+package com.example.jwt.dto;
+
+import lombok.*;
+
+import java.util.List;
+
+/**
+* @package : com.example.jwt.dto
+* @name : UserSummaryDto.java
+* @date : 2026-10-18 오후 8:05
+* @author : hj
+* @Description: 관리자용 유저 목록(/api/admin/users), 내보내기(/api/admin/users/export)에 사용
+**/
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserSummaryDto {
+    private Long userId;
+    private String username;
+    private String nickname;
+    private boolean activated;
+    private List<UserInfoDto.AuthorityDto> authorities;
+}
@@ -1,7 +1,11 @@
 package com.example.jwt.entity;
 
+import com.example.jwt.config.SecondLevelCacheConfig;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
+import javax.persistence.Cacheable;
 import javax.persistence.Column;
 import javax.persistence.Entity;
 import javax.persistence.Id;
@@ -10,6 +14,8 @@ import javax.persistence.Table;
 //UserService에서 설정
 @Entity
 @Table(name = "authority")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.AUTHORITY_REGION)  //권한 몇 건뿐이라 조회 시 DB를 거치지 않음
 @Getter
 @Setter
 @Builder
@@ -0,0 +1,61 @@
+package com.example.jwt.entity;
+
+import lombok.*;
+import org.springframework.data.domain.Persistable;
+
+import javax.persistence.*;
+
+//RefreshTokenService에서 설정
+//토큰 원문은 저장하지 않고 SHA-256 해시만 저장
+@Entity
+@Table(name = "refresh_token", indexes = {
+        @Index(name = "idx_refresh_token_expires_at", columnList = "expires_at"),  //만료 토큰 일괄 삭제용
+        @Index(name = "idx_refresh_token_family_id", columnList = "family_id"),    //재사용 감지 시 같은 계열 토큰 폐기용
+        @Index(name = "idx_refresh_token_username", columnList = "username")})
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class RefreshToken implements Persistable<String> {
+
+    @Id
+    @Column(name = "token_hash", length = 64)
+    private String tokenHash;
+
+    @Column(name = "username", length = 50, nullable = false)
+    private String username;
+
+    //로그인 한 번으로 시작되어 재발급될 때마다 이어지는 토큰들의 묶음
+    @Column(name = "family_id", length = 36, nullable = false)
+    private String familyId;
+
+    //만료 시각 (epoch millis)
+    @Column(name = "expires_at", nullable = false)
+    private long expiresAt;
+
+    //이미 재발급에 사용된 토큰인지 여부, 사용된 토큰이 다시 들어오면 탈취로 간주
+    @Column(name = "used", nullable = false)
+    private boolean used;
+
+    //id를 직접 지정하므로 save 시 merge(select 후 insert)가 아닌 persist 가 되도록 신규 여부를 직접 관리
+    @Transient
+    @Builder.Default
+    private boolean persisted = false;
+
+    @Override
+    public String getId() {
+        return tokenHash;
+    }
+
+    @Override
+    public boolean isNew() {
+        return !persisted;
+    }
+
+    @PostLoad
+    @PostPersist
+    void markPersisted() {
+        this.persisted = true;
+    }
+}
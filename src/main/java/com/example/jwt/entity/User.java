@@ -1,14 +1,21 @@
 package com.example.jwt.entity;
 
+import com.example.jwt.config.SecondLevelCacheConfig;
 import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
 
 import javax.persistence.*;
 import java.util.Set;
 
 //UserService에서 설정
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = @Index(name = "idx_users_nickname", columnList = "nickname"))  //nickname 검색용 인덱스
+@EntityListeners({UserCacheListener.class, UserSearchIndexListener.class})  //변경 시 UserCache 삭제, 검색 인덱스 반영
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.USER_REGION)  //쿼리 캐시는 user_id만 보관하므로 엔티티도 캐시
 @Getter
 @Setter
 @Builder
@@ -36,7 +43,17 @@ public class User {
     @Column(name = "activated")
     private boolean activated;
 
+    //Hibernate는 버전 컬럼이 있는 엔티티만 컬렉션 변경을 엔티티 변경으로 처리함
+    //authorities만 추가/삭제해도 users UPDATE(버전 증가)가 실행되어 @PostUpdate(UserCacheListener)가 호출되도록 추가
+    //JDBC로 직접 insert 하는 곳(data.sql, UserImportService)은 컬럼 기본값 0 사용
+    @JsonIgnore
+    @Version
+    @ColumnDefault("0")
+    @Column(name = "version", nullable = false)
+    private Long version;
+
     @ManyToMany
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = SecondLevelCacheConfig.USER_AUTHORITIES_REGION)  //authority_name 목록만 보관, Authority는 엔티티 캐시에서 조회
     @JoinTable(
             name = "user_authority",
             joinColumns = {@JoinColumn(name = "user_id", referencedColumnName = "user_id")},
@@ -0,0 +1,34 @@
+package com.example.jwt.entity;
+
+import com.example.jwt.service.UserCache;
+import org.springframework.beans.factory.ObjectProvider;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+/**
+* @package : com.example.jwt.entity
+* @name : UserCacheListener.java
+* @date : 2026-10-18 오후 5:40
+* @author : hj
+* @Description: User 엔티티가 저장/수정/삭제되면 UserCache의 해당 유저 캐시를 삭제하는 엔티티 리스너
+**/
+//회원가입, 권한 변경, 활성화 여부 변경 등 User를 변경하는 모든 코드에서 따로 캐시를 신경 쓰지 않아도 되도록 엔티티에 연결
+//권한(authorities)만 바뀌는 경우도 User의 @Version 컬럼 덕분에 users UPDATE가 실행되어 @PostUpdate가 호출됨
+//Hibernate가 Spring 빈으로 생성하며, EntityManagerFactory 생성 시점에는 UserCache가 아직 없으므로 ObjectProvider로 지연 조회
+public class UserCacheListener {
+
+    private final ObjectProvider<UserCache> userCache;
+
+    public UserCacheListener(ObjectProvider<UserCache> userCache) {
+        this.userCache = userCache;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    public void invalidate(User user) {
+        userCache.ifAvailable(cache -> cache.invalidate(user.getUsername()));
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.jwt.entity;
+
+import com.example.jwt.service.UserSearchService;
+import org.springframework.beans.factory.ObjectProvider;
+
+import javax.persistence.PostPersist;
+import javax.persistence.PostRemove;
+import javax.persistence.PostUpdate;
+
+/**
+* @package : com.example.jwt.entity
+* @name : UserSearchIndexListener.java
+* @date : 2026-10-18 오후 8:40
+* @author : hj
+* @Description: User 엔티티가 저장/수정/삭제되면 UserSearchService의 검색 인덱스에 반영하는 엔티티 리스너
+**/
+//UserCacheListener와 같은 이유로 ObjectProvider로 지연 조회
+public class UserSearchIndexListener {
+
+    private final ObjectProvider<UserSearchService> userSearchService;
+
+    public UserSearchIndexListener(ObjectProvider<UserSearchService> userSearchService) {
+        this.userSearchService = userSearchService;
+    }
+
+    @PostPersist
+    @PostUpdate
+    public void update(User user) {
+        userSearchService.ifAvailable(service -> service.update(user.getUserId(), user.getUsername(), user.getNickname()));
+    }
+
+    @PostRemove
+    public void remove(User user) {
+        userSearchService.ifAvailable(service -> service.remove(user.getUserId()));
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.jwt.jfr;
+
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.ParseException;
+import java.time.Duration;
+
+/**
+* @package : com.example.jwt.jfr
+* @name : AuthFlightRecorder.java
+* @date : 2026-10-18 오후 11:05
+* @author : hj
+* @Description: 인증 관련 JFR 이벤트를 포함한 연속 기록(continuous recording)을 시작/중지/덤프하는 클래스
+**/
+//auth.jfr.continuous.enabled 가 true이면 서버 시작 시 자동으로 시작, 관리자 API(/api/admin/jfr/recording)로도 시작/중지 가능
+//JDK의 default 설정(GC, 락 경합, 스레드 상태 등)을 함께 기록하므로 인증 지연과 GC/락 대기를 같은 타임라인에서 비교할 수 있음
+//기록은 max-age, max-size 만큼만 디스크에 유지되며, 덤프하면 그 시점까지의 내용이 .jfr 파일로 만들어짐 (JDK Mission Control로 확인)
+//-XX:StartFlightRecording 옵션으로 JVM을 시작해도 같은 이벤트(com.example.jwt.*)가 기록됨
+@Component
+public class AuthFlightRecorder implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuthFlightRecorder.class);
+
+    private static final String RECORDING_NAME = "auth-continuous";
+
+    private final boolean startOnBoot;
+    private final String settings;
+    private final Duration maxAge;
+    private final long maxSizeBytes;
+    //토큰 생성/검증은 수 μs 로 끝나므로 ms 단위 임계값을 두면 거의 모두 버려짐 -> 기본 0 (모두 기록)
+    private final Duration tokenEventThreshold;
+    //유저 조회, 비밀번호 검증 이벤트 중 이 시간보다 오래 걸린 것만 기록
+    private final Duration eventThreshold;
+
+    private Recording recording;
+
+    public AuthFlightRecorder(
+            @Value("${auth.jfr.continuous.enabled:false}") boolean startOnBoot,
+            @Value("${auth.jfr.continuous.settings:default}") String settings,
+            @Value("${auth.jfr.continuous.max-age-minutes:360}") long maxAgeMinutes,
+            @Value("${auth.jfr.continuous.max-size-mb:250}") long maxSizeMb,
+            @Value("${auth.jfr.continuous.token-event-threshold-ms:0}") long tokenEventThresholdMs,
+            @Value("${auth.jfr.continuous.event-threshold-ms:1}") long eventThresholdMs) {
+        this.startOnBoot = startOnBoot;
+        this.settings = settings;
+        this.maxAge = Duration.ofMinutes(maxAgeMinutes);
+        this.maxSizeBytes = maxSizeMb * 1024 * 1024;
+        this.tokenEventThreshold = Duration.ofMillis(tokenEventThresholdMs);
+        this.eventThreshold = Duration.ofMillis(eventThresholdMs);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void startOnBoot() throws IOException, ParseException {
+        if (startOnBoot) {
+            start();
+        }
+    }
+
+    /**
+    * @methodName : start
+    * @date : 2026-10-18 오후 11:05
+    * @author : hj
+    * @Description: 연속 기록 시작, 이미 기록 중이면 false
+    **/
+    public synchronized boolean start() throws IOException, ParseException {
+        if (isRunning()) {
+            return false;
+        }
+        Recording started = new Recording(Configuration.getConfiguration(settings));
+        started.setName(RECORDING_NAME);
+        started.setToDisk(true);
+        started.setMaxAge(maxAge);
+        started.setMaxSize(maxSizeBytes);
+        started.enable(TokenVerifyEvent.class).withThreshold(tokenEventThreshold);
+        started.enable(TokenCreateEvent.class).withThreshold(tokenEventThreshold);
+        started.enable(UserLookupEvent.class).withThreshold(eventThreshold);
+        started.enable(PasswordMatchEvent.class).withThreshold(eventThreshold);
+        started.start();
+        this.recording = started;
+        logger.info("JFR 연속 기록을 시작했습니다. settings: {}, max-age: {}, max-size: {}bytes", settings, maxAge, maxSizeBytes);
+        return true;
+    }
+
+    /**
+    * @methodName : stop
+    * @date : 2026-10-18 오후 11:05
+    * @author : hj
+    * @Description: 연속 기록 중지 (기록된 내용은 삭제됨), 기록 중이 아니었으면 false
+    **/
+    public synchronized boolean stop() {
+        if (!isRunning()) {
+            return false;
+        }
+        recording.close();
+        recording = null;
+        logger.info("JFR 연속 기록을 중지했습니다.");
+        return true;
+    }
+
+    /**
+    * @methodName : dump
+    * @date : 2026-10-18 오후 11:05
+    * @author : hj
+    * @Description: 현재까지의 기록을 임시 .jfr 파일로 저장하여 경로를 리턴, 기록 중이 아니면 null
+    **/
+    //파일 삭제는 호출 측에서 처리
+    public synchronized Path dump() throws IOException {
+        if (!isRunning()) {
+            return null;
+        }
+        Path file = Files.createTempFile(RECORDING_NAME + "-", ".jfr");
+        recording.dump(file);
+        return file;
+    }
+
+    public synchronized boolean isRunning() {
+        return recording != null && recording.getState() == RecordingState.RUNNING;
+    }
+
+    @Override
+    public void destroy() {
+        stop();
+    }
+}
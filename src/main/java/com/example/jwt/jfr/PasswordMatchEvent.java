@@ -0,0 +1,24 @@
+package com.example.jwt.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+* @package : com.example.jwt.jfr
+* @name : PasswordMatchEvent.java
+* @date : 2026-10-18 오후 11:05
+* @author : hj
+* @Description: 비밀번호 해시 검증(PasswordEncoder.matches) 한 건
+**/
+@Name("com.example.jwt.PasswordMatch")
+@Label("Password Match")
+@Category({"JWT Auth"})
+@Description("비밀번호 해시 검증(PasswordEncoder.matches) 한 건")
+public class PasswordMatchEvent extends Event {
+
+    @Label("Matched")
+    public boolean matched;
+}
@@ -0,0 +1,27 @@
+package com.example.jwt.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+* @package : com.example.jwt.jfr
+* @name : TokenCreateEvent.java
+* @date : 2026-10-18 오후 11:05
+* @author : hj
+* @Description: access token 생성(서명) 한 건
+**/
+@Name("com.example.jwt.TokenCreate")
+@Label("Token Create")
+@Category({"JWT Auth"})
+@Description("access token 생성(서명) 한 건")
+public class TokenCreateEvent extends Event {
+
+    @Label("Key Id")
+    public String kid;
+
+    @Label("Token Length")
+    public int tokenLength;
+}
@@ -0,0 +1,30 @@
+package com.example.jwt.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+* @package : com.example.jwt.jfr
+* @name : TokenVerifyEvent.java
+* @date : 2026-10-18 오후 11:05
+* @author : hj
+* @Description: JwtFilter에서 사용하는 access token 검증(verifyToken) 한 건
+**/
+//JFR이 기록 중이 아니면 begin/end/commit 은 거의 비용이 없으므로 호출 측은 shouldCommit() 이 true일 때만 필드를 채움
+//(이 패키지의 다른 이벤트도 같은 방식으로 사용)
+@Name("com.example.jwt.TokenVerify")
+@Label("Token Verify")
+@Category({"JWT Auth"})
+@Description("JwtFilter에서 사용하는 access token 검증(verifyToken) 한 건")
+public class TokenVerifyEvent extends Event {
+
+    //valid 또는 FailureReason 소문자 (auth.token.verify 메트릭의 result 태그와 같은 값)
+    @Label("Result")
+    public String result;
+
+    @Label("Token Length")
+    public int tokenLength;
+}
@@ -0,0 +1,25 @@
+package com.example.jwt.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+* @package : com.example.jwt.jfr
+* @name : UserLookupEvent.java
+* @date : 2026-10-18 오후 11:05
+* @author : hj
+* @Description: 로그인 시 loadUserByUsername 으로 유저 정보를 조회한 한 건
+**/
+@Name("com.example.jwt.UserLookup")
+@Label("User Lookup")
+@Category({"JWT Auth"})
+@Description("로그인 시 loadUserByUsername 으로 유저 정보를 조회한 한 건")
+public class UserLookupEvent extends Event {
+
+    //found, not_found, inactive
+    @Label("Outcome")
+    public String outcome;
+}
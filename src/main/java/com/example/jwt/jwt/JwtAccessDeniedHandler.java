@@ -1,6 +1,12 @@
 package com.example.jwt.jwt;
 
+import com.example.jwt.service.AuthAuditLog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.security.access.AccessDeniedException;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.web.access.AccessDeniedHandler;
 import org.springframework.stereotype.Component;
 
@@ -15,10 +21,30 @@ import java.io.IOException;
 * @author : hj
 * @Description: 필요한 권한이 존재하지 않는 경우 403 Forbidden 에러 리턴
 **/
+//감사 로그(AuthAuditLog)에 ACCESS_DENIED 이벤트 기록, 응답 수는 /actuator/metrics/auth.access.rejected (status=403) 로 확인
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @Component
 public class JwtAccessDeniedHandler implements AccessDeniedHandler {
+
+    private final AuthAuditLog authAuditLog;
+    private final Counter rejectedCounter;
+
+    public JwtAccessDeniedHandler(AuthAuditLog authAuditLog, MeterRegistry meterRegistry) {
+        this.authAuditLog = authAuditLog;
+        this.rejectedCounter = Counter.builder("auth.access.rejected")
+                .tag("status", "403")
+                .description("권한이 없어 403으로 응답한 요청 수")
+                .register(meterRegistry);
+    }
+
     @Override
     public void handle(HttpServletRequest request, HttpServletResponse response, AccessDeniedException accessDeniedException) throws IOException {
+        rejectedCounter.increment();
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        authAuditLog.record(AuthAuditLog.EventType.ACCESS_DENIED,
+                authentication != null ? authentication.getName() : null,
+                request.getRemoteAddr(),
+                request.getMethod() + " " + request.getRequestURI());
         response.sendError(HttpServletResponse.SC_FORBIDDEN);
     }
 }
\ No newline at end of file
@@ -1,5 +1,9 @@
 package com.example.jwt.jwt;
 
+import com.example.jwt.service.AuthAuditLog;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.security.core.AuthenticationException;
 import org.springframework.security.web.AuthenticationEntryPoint;
 import org.springframework.stereotype.Component;
@@ -15,12 +19,29 @@ import java.io.IOException;
 * @author : hj
 * @Description: 유효한 자격증명을 제공하지 않고 접근하려 할 때 401 UnAuthorized 에러를 리턴
 **/
+//감사 로그(AuthAuditLog)에 UNAUTHORIZED 이벤트 기록, 응답 수는 /actuator/metrics/auth.access.rejected (status=401) 로 확인
+@ConditionalOnWebApplication(type = ConditionalOnWebApplication.Type.SERVLET)
 @Component
 public class JwtAuthenticationEntryPoint implements AuthenticationEntryPoint {
+
+    private final AuthAuditLog authAuditLog;
+    private final Counter rejectedCounter;
+
+    public JwtAuthenticationEntryPoint(AuthAuditLog authAuditLog, MeterRegistry meterRegistry) {
+        this.authAuditLog = authAuditLog;
+        this.rejectedCounter = Counter.builder("auth.access.rejected")
+                .tag("status", "401")
+                .description("인증 정보가 없어 401로 응답한 요청 수")
+                .register(meterRegistry);
+    }
+
     @Override
     public void commence(HttpServletRequest request,
                          HttpServletResponse response,
                          AuthenticationException authException) throws IOException {
+        rejectedCounter.increment();
+        authAuditLog.record(AuthAuditLog.EventType.UNAUTHORIZED, null, request.getRemoteAddr(),
+                request.getMethod() + " " + request.getRequestURI());
         response.sendError(HttpServletResponse.SC_UNAUTHORIZED);
     }
 }
\ No newline at end of file
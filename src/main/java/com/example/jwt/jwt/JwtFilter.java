@@ -5,13 +5,12 @@ import org.slf4j.LoggerFactory;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.util.StringUtils;
-import org.springframework.web.filter.GenericFilterBean;
+import org.springframework.web.filter.OncePerRequestFilter;
 
 import javax.servlet.FilterChain;
 import javax.servlet.ServletException;
-import javax.servlet.ServletRequest;
-import javax.servlet.ServletResponse;
 import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 
 /**
@@ -23,7 +22,8 @@ import java.io.IOException;
 **/
 //토큰 발급 시 헤더에 토큰정보 포함할 때 호출
 //JwtFilter의 DoFilter 메서드에서 Request가 들어올 때 SecurityContext에 Authentication 객체를 저장해 사용
-public class JwtFilter extends GenericFilterBean {
+//OncePerRequestFilter 이므로 비동기 응답의 ASYNC 디스패치에서 토큰을 다시 검증하지 않음
+public class JwtFilter extends OncePerRequestFilter {
 
     private static final Logger logger = LoggerFactory.getLogger(JwtFilter.class);
 
@@ -36,25 +36,24 @@ public class JwtFilter extends GenericFilterBean {
     }
 
     /**
-    * @methodName : doFilter
+    * @methodName : doFilterInternal
     * @date : 2023-04-20 오후 1:00
     * @author : hj
     * @Description: 실제 필터링 로직, 토큰의 인증정보를 현재 실행중인 스레드(SecurityContext)에 저장하기 위한 역할 수행
     **/
     //토큰 정보가 없거나 유효하지 않으면 정상적으로 수행되지 않음
     @Override
-    public void doFilter(ServletRequest servletRequest, ServletResponse servletResponse, FilterChain filterChain)
-            throws IOException, ServletException {
-        HttpServletRequest httpServletRequest = (HttpServletRequest) servletRequest;
-        
+    protected void doFilterInternal(HttpServletRequest httpServletRequest, HttpServletResponse httpServletResponse,
+                                    FilterChain filterChain) throws ServletException, IOException {
         // 1. Request Header에서 JWT토큰 추출
         String jwt = resolveToken(httpServletRequest);
         String requestURI = httpServletRequest.getRequestURI();
         
-        // 2. ValidationToken으로 토큰 유효성 검사
-        if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-            // 3. 토큰이 유효할 경우 토큰에서 Authentication 객체를 받아와
-            Authentication authentication = tokenProvider.getAuthentication(jwt);
+        // 2. verifyToken으로 토큰 유효성 검사 (서명 검증은 한 번만 수행)
+        TokenValidationResult result = StringUtils.hasText(jwt) ? tokenProvider.verifyToken(jwt) : null;
+        if (result != null && result.isValid()) {
+            // 3. 토큰이 유효할 경우 검증 결과에서 Authentication 객체를 받아와
+            Authentication authentication = tokenProvider.getAuthentication(result);
             // 4. SecurityContext에 Authentication 객체 set
             SecurityContextHolder.getContext().setAuthentication(authentication);
             logger.debug("Security Context에 '{}' 인증 정보를 저장했습니다, uri: {}", authentication.getName(), requestURI);
@@ -62,7 +61,7 @@ public class JwtFilter extends GenericFilterBean {
             logger.debug("유효한 JWT 토큰이 없습니다, uri: {}", requestURI);
         }
 
-        filterChain.doFilter(servletRequest, servletResponse);
+        filterChain.doFilter(httpServletRequest, httpServletResponse);
         //요청이 정상적으로 Controller 까지 도착했다면 SecurityContext 에 Member ID 가 존재한다는 것이 보장됨
         //대신 직접 DB 를 조회한 것이 아니라 Access Token 에 있는 User ID 를 꺼냈기 때문에
         //탈퇴로 인해 User ID 가 DB 에 없는 경우 등 예외 상황은 Service 단에서 고려해야 함
@@ -0,0 +1,300 @@
+package com.example.jwt.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.math.BigInteger;
+import java.security.*;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+
+/**
+* @package : com.example.jwt.jwt
+* @name : JwtKeyRing.java
+* @date : 2026-10-18 오후 5:01
+* @author : hj
+* @Description: 토큰 서명/검증 키를 kid 별로 관리하는 클래스
+**/
+//토큰 헤더의 kid 로 검증 키를 HashMap에서 바로 찾으므로(O(1)) 여러 키를 동시에 검증용으로 유지할 수 있음
+//서명 키를 바꿔도 이전 키는 검증용으로 남아 있으므로 이미 발급된 토큰이 한꺼번에 무효화되지 않음
+//TokenProvider의 JwtParser에 SigningKeyResolver로 등록되어 사용됨
+@Component
+public class JwtKeyRing extends SigningKeyResolverAdapter implements InitializingBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(JwtKeyRing.class);
+
+    private final String secret;
+    private final JwtKeyRingProperties properties;
+    private final Duration retain;
+
+    //kid -> 키, 변경 시 새 Map을 만들어 통째로 교체 (조회는 락 없이 수행)
+    private volatile Map<String, RingKey> keys = Collections.emptyMap();
+    private volatile RingKey activeKey;
+    //자동 교체로 만든 키와 교체된 시각
+    private final Map<String, Instant> retiredGeneratedKeys = new HashMap<>();
+    private Instant lastGeneratedAt;
+
+    public JwtKeyRing(
+            @Value("${jwt.secret}") String secret,
+            JwtKeyRingProperties properties,
+            @Value("${jwt.token-validity-in-seconds}") long tokenValidityInSeconds) {
+        this.secret = secret;
+        this.properties = properties;
+        this.retain = properties.getRotation().getRetain() != null
+                ? properties.getRotation().getRetain()
+                : Duration.ofSeconds(tokenValidityInSeconds);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        Map<String, RingKey> loaded = new HashMap<>();
+        //기존 jwt.secret 키
+        loaded.put(properties.getLegacyKid(), RingKey.hmac(properties.getLegacyKid(), SignatureAlgorithm.HS512,
+                Keys.hmacShaKeyFor(Decoders.BASE64.decode(secret))));
+        for (JwtKeyRingProperties.Key key : properties.getKeys()) {
+            loaded.put(key.getKid(), RingKey.from(key));
+        }
+        this.keys = Collections.unmodifiableMap(loaded);
+
+        if (properties.getRotation().isEnabled()) {
+            generateKey();
+        } else {
+            selectActiveKey();
+        }
+    }
+
+    /**
+    * @methodName : getActiveKey
+    * @date : 2026-10-18 오후 5:01
+    * @author : hj
+    * @Description: 토큰 서명에 사용할 현재 키를 리턴
+    **/
+    public RingKey getActiveKey() {
+        return activeKey;
+    }
+
+    //JwtParser가 서명 검증 직전에 호출, kid가 없는 기존 토큰은 legacy 키로 검증
+    //jjwt 0.11 SigningKeyResolver 시그니처가 raw JwsHeader 이므로 JwsHeader<?>로 바꾸면 override가 되지 않음
+    @Override
+    @SuppressWarnings("rawtypes")
+    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+        return resolve(header);
+    }
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public Key resolveSigningKey(JwsHeader header, String plaintext) {
+        return resolve(header);
+    }
+
+    private Key resolve(JwsHeader<?> header) {
+        String kid = header.getKeyId();
+        RingKey key = keys.get(kid != null ? kid : properties.getLegacyKid());
+        if (key == null) {
+            throw new SignatureException("등록되지 않은 kid 입니다: " + kid);
+        }
+        return key.verificationKey;
+    }
+
+    /**
+    * @methodName : refresh
+    * @date : 2026-10-18 오후 5:01
+    * @author : hj
+    * @Description: 주기적으로 서명 키를 다시 선택하고, 자동 교체 주기가 지났으면 새 키를 만들며, 보관 기간이 지난 키를 정리
+    **/
+    @Scheduled(fixedDelayString = "${jwt.key-ring.check-interval-ms:60000}")
+    public synchronized void refresh() {
+        Instant now = Instant.now();
+        if (properties.getRotation().isEnabled()) {
+            if (lastGeneratedAt == null || !now.isBefore(lastGeneratedAt.plus(properties.getRotation().getInterval()))) {
+                generateKey();
+            }
+            removeRetiredKeys(now);
+        } else {
+            selectActiveKey();
+        }
+    }
+
+    /**
+    * @methodName : jwks
+    * @date : 2026-10-18 오후 5:01
+    * @author : hj
+    * @Description: 검증 가능한 비대칭 공개키 목록을 JWK Set 형식으로 리턴
+    **/
+    //HS* 키는 비밀키이므로 공개하지 않음
+    public Map<String, Object> jwks() {
+        List<Map<String, Object>> jwkList = new ArrayList<>();
+        for (RingKey key : keys.values()) {
+            if (key.verificationKey instanceof PublicKey) {
+                jwkList.add(toJwk(key));
+            }
+        }
+        return Collections.singletonMap("keys", jwkList);
+    }
+
+    private synchronized void selectActiveKey() {
+        RingKey selected = null;
+        if (properties.getActiveKid() != null) {
+            //설정 오타 등으로 의도하지 않은 키로 서명하지 않도록 legacy 키로 대신하지 않고 시작을 실패시킴
+            selected = keys.get(properties.getActiveKid());
+            if (selected == null) {
+                throw new IllegalStateException("등록되지 않은 active-kid 입니다: " + properties.getActiveKid());
+            }
+        } else {
+            //activate-at 이 지난 키 중 가장 최근 키
+            Instant now = Instant.now();
+            Instant latest = null;
+            for (JwtKeyRingProperties.Key key : properties.getKeys()) {
+                Instant activateAt = key.getActivateAt();
+                if (activateAt != null && !activateAt.isAfter(now) && (latest == null || activateAt.isAfter(latest))) {
+                    RingKey candidate = keys.get(key.getKid());
+                    if (candidate.signingKey != null) {
+                        latest = activateAt;
+                        selected = candidate;
+                    }
+                }
+            }
+        }
+        if (selected == null) {
+            selected = keys.get(properties.getLegacyKid());
+        }
+        if (selected.signingKey == null) {
+            throw new IllegalStateException("서명 키로 사용할 수 없는 kid 입니다(개인키 없음): " + selected.kid);
+        }
+        if (activeKey != selected) {
+            logger.info("JWT 서명 키를 '{}'(으)로 설정했습니다.", selected.kid);
+            this.activeKey = selected;
+        }
+    }
+
+    private synchronized void generateKey() {
+        SignatureAlgorithm algorithm = SignatureAlgorithm.forName(properties.getRotation().getAlgorithm());
+        KeyPair keyPair = Keys.keyPairFor(algorithm);
+        Instant now = Instant.now();
+        String kid = algorithm.getValue().toLowerCase(Locale.ROOT) + "-" + now.getEpochSecond();
+
+        RingKey generated = new RingKey(kid, algorithm, keyPair.getPrivate(), keyPair.getPublic());
+        Map<String, RingKey> updated = new HashMap<>(keys);
+        updated.put(kid, generated);
+        this.keys = Collections.unmodifiableMap(updated);
+
+        if (activeKey != null && lastGeneratedAt != null) {
+            retiredGeneratedKeys.put(activeKey.kid, now);
+        }
+        this.activeKey = generated;
+        this.lastGeneratedAt = now;
+        logger.info("새 JWT 서명 키 '{}'({})를 생성했습니다.", kid, algorithm.getValue());
+    }
+
+    //교체된 뒤 retain 기간이 지난 자동 생성 키 삭제 (해당 키로 서명된 토큰은 이미 모두 만료됨)
+    private void removeRetiredKeys(Instant now) {
+        Iterator<Map.Entry<String, Instant>> iterator = retiredGeneratedKeys.entrySet().iterator();
+        Map<String, RingKey> updated = null;
+        while (iterator.hasNext()) {
+            Map.Entry<String, Instant> retired = iterator.next();
+            if (!now.isBefore(retired.getValue().plus(retain))) {
+                if (updated == null) {
+                    updated = new HashMap<>(keys);
+                }
+                updated.remove(retired.getKey());
+                iterator.remove();
+            }
+        }
+        if (updated != null) {
+            this.keys = Collections.unmodifiableMap(updated);
+        }
+    }
+
+    private static Map<String, Object> toJwk(RingKey key) {
+        Map<String, Object> jwk = new LinkedHashMap<>();
+        jwk.put("kid", key.kid);
+        jwk.put("use", "sig");
+        jwk.put("alg", key.algorithm.getValue());
+        if (key.verificationKey instanceof ECPublicKey) {
+            ECPublicKey publicKey = (ECPublicKey) key.verificationKey;
+            int size = (publicKey.getParams().getCurve().getField().getFieldSize() + 7) / 8;
+            jwk.put("kty", "EC");
+            jwk.put("crv", "P-" + publicKey.getParams().getCurve().getField().getFieldSize());
+            jwk.put("x", base64Url(publicKey.getW().getAffineX(), size));
+            jwk.put("y", base64Url(publicKey.getW().getAffineY(), size));
+        } else if (key.verificationKey instanceof RSAPublicKey) {
+            RSAPublicKey publicKey = (RSAPublicKey) key.verificationKey;
+            jwk.put("kty", "RSA");
+            jwk.put("n", base64Url(publicKey.getModulus(), (publicKey.getModulus().bitLength() + 7) / 8));
+            jwk.put("e", base64Url(publicKey.getPublicExponent(), (publicKey.getPublicExponent().bitLength() + 7) / 8));
+        }
+        return jwk;
+    }
+
+    //JWK 좌표는 부호 바이트 없이 고정 길이의 unsigned big-endian 값
+    private static String base64Url(BigInteger value, int length) {
+        byte[] bytes = value.toByteArray();
+        byte[] fixed = new byte[length];
+        int copy = Math.min(bytes.length, length);
+        System.arraycopy(bytes, bytes.length - copy, fixed, length - copy, copy);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(fixed);
+    }
+
+    //kid, 알고리즘, 서명키(검증 전용 키는 null), 검증키를 묶은 불변 객체
+    public static final class RingKey {
+        private final String kid;
+        private final SignatureAlgorithm algorithm;
+        private final Key signingKey;
+        private final Key verificationKey;
+
+        private RingKey(String kid, SignatureAlgorithm algorithm, Key signingKey, Key verificationKey) {
+            this.kid = kid;
+            this.algorithm = algorithm;
+            this.signingKey = signingKey;
+            this.verificationKey = verificationKey;
+        }
+
+        static RingKey hmac(String kid, SignatureAlgorithm algorithm, Key secretKey) {
+            return new RingKey(kid, algorithm, secretKey, secretKey);
+        }
+
+        static RingKey from(JwtKeyRingProperties.Key key) {
+            SignatureAlgorithm algorithm = SignatureAlgorithm.forName(key.getAlgorithm());
+            if (algorithm.isHmac()) {
+                return hmac(key.getKid(), algorithm, Keys.hmacShaKeyFor(Decoders.BASE64.decode(key.getSecret())));
+            }
+            try {
+                KeyFactory keyFactory = KeyFactory.getInstance(algorithm.getFamilyName().equals("ECDSA") ? "EC" : "RSA");
+                PrivateKey privateKey = key.getPrivateKey() == null ? null
+                        : keyFactory.generatePrivate(new PKCS8EncodedKeySpec(Decoders.BASE64.decode(key.getPrivateKey())));
+                PublicKey publicKey = keyFactory.generatePublic(new X509EncodedKeySpec(Decoders.BASE64.decode(key.getPublicKey())));
+                return new RingKey(key.getKid(), algorithm, privateKey, publicKey);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("JWT 키를 읽을 수 없습니다. kid: " + key.getKid(), e);
+            }
+        }
+
+        public String getKid() {
+            return kid;
+        }
+
+        public SignatureAlgorithm getAlgorithm() {
+            return algorithm;
+        }
+
+        public Key getSigningKey() {
+            return signingKey;
+        }
+    }
+}
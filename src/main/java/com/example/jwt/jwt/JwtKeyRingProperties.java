@@ -0,0 +1,66 @@
+package com.example.jwt.jwt;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+* @package : com.example.jwt.jwt
+* @name : JwtKeyRingProperties.java
+* @date : 2026-10-18 오후 5:01
+* @author : hj
+* @Description: application.yml 의 jwt.key-ring 설정을 바인딩하는 클래스
+**/
+//키 목록처럼 @Value로 받기 어려운 설정이라 @ConfigurationProperties로 바인딩
+@Component
+@ConfigurationProperties(prefix = "jwt.key-ring")
+@Getter
+@Setter
+public class JwtKeyRingProperties {
+
+    //jwt.secret 으로 만든 기존 키의 kid, kid 헤더가 없는 기존 토큰도 이 키로 검증
+    private String legacyKid = "default";
+
+    //서명에 사용할 kid, 비어 있으면 activate-at 이 지난 키 중 가장 최근 키 (없으면 legacy 키)
+    private String activeKid;
+
+    //검증에 사용할 키 목록 (서버끼리 공유되는 키는 여기에 설정)
+    private List<Key> keys = new ArrayList<>();
+
+    //키 설정 변경(activate-at 도래, 자동 교체, 만료 키 정리)을 확인하는 주기
+    private long checkIntervalMs = 60000;
+
+    private Rotation rotation = new Rotation();
+
+    @Getter
+    @Setter
+    public static class Key {
+        private String kid;
+        //HS256/HS384/HS512, ES256/ES384/ES512, RS256/RS384/RS512
+        private String algorithm = "HS512";
+        //HS* : Base64 인코딩된 비밀키
+        private String secret;
+        //ES*, RS* : Base64 인코딩된 DER 키 (개인키는 PKCS#8, 공개키는 X.509), 검증만 하는 키는 public-key 만 설정
+        private String privateKey;
+        private String publicKey;
+        //이 시각이 지나면 서명 키로 사용 (모든 서버가 같은 설정을 가지므로 동시에 교체됨)
+        private Instant activateAt;
+    }
+
+    //서버가 직접 비대칭 키를 만들어 주기적으로 교체 (서버 한 대 또는 JWKS로 검증하는 구성에서 사용)
+    @Getter
+    @Setter
+    public static class Rotation {
+        private boolean enabled = false;
+        private String algorithm = "ES256";
+        private Duration interval = Duration.ofDays(1);
+        //교체된 키를 검증용으로 남겨둘 기간, 비어 있으면 access token 유효시간
+        private Duration retain;
+    }
+}
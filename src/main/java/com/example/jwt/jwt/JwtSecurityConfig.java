@@ -13,12 +13,15 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 * @author : hj
 * @Description: TokenProvider를 주입받아 JwtFilter를 Security 로직에 적용하는 클래스
 **/
+//JwtFilter 다음에 RateLimitFilter를 등록하여 인증 정보(subject) 기준으로 요청 수를 제한
 public class JwtSecurityConfig extends SecurityConfigurerAdapter<DefaultSecurityFilterChain, HttpSecurity> {
 
     private TokenProvider tokenProvider;
+    private RateLimiter rateLimiter;
 
-    public JwtSecurityConfig(TokenProvider tokenProvider) {
+    public JwtSecurityConfig(TokenProvider tokenProvider, RateLimiter rateLimiter) {
         this.tokenProvider = tokenProvider;
+        this.rateLimiter = rateLimiter;
     }
 
     @Override
@@ -26,5 +29,6 @@ public class JwtSecurityConfig extends SecurityConfigurerAdapter<DefaultSecurity
         // TokenProvider 를 주입받아서 JwtFilter 를 통해 Security 로직에 필터를 등록
         JwtFilter customFilter = new JwtFilter(tokenProvider);
         http.addFilterBefore(customFilter, UsernamePasswordAuthenticationFilter.class);
+        http.addFilterAfter(new RateLimitFilter(rateLimiter), JwtFilter.class);
     }
 }
\ No newline at end of file
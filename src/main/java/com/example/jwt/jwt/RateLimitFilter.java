@@ -0,0 +1,58 @@
+package com.example.jwt.jwt;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+/**
+* @package : com.example.jwt.jwt
+* @name : RateLimitFilter.java
+* @date : 2026-10-18 오후 9:40
+* @author : hj
+* @Description: /api/** 요청 수를 RateLimiter로 제한하는 필터, 한도를 넘으면 429 응답
+**/
+//JwtFilter 다음에 실행되므로 유효한 토큰이면 토큰의 subject 기준, 아니면 IP 기준으로 제한
+//응답에 X-RateLimit-Limit, X-RateLimit-Remaining 헤더를, 거절 시 Retry-After 헤더를 추가
+//OncePerRequestFilter 이므로 비동기 응답(CompletableFuture, StreamingResponseBody)의 ASYNC 디스패치에서는 실행되지 않음
+//(요청 1건에 토큰 1개, 이미 처리가 끝난 로그인 응답을 ASYNC 디스패치에서 429로 막지 않기 위함)
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String API_PREFIX = "/api/";
+
+    private final RateLimiter rateLimiter;
+
+    public RateLimitFilter(RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest httpServletRequest, HttpServletResponse httpServletResponse,
+                                    FilterChain filterChain) throws ServletException, IOException {
+        if (!rateLimiter.isEnabled() || !httpServletRequest.getRequestURI().startsWith(API_PREFIX)) {
+            filterChain.doFilter(httpServletRequest, httpServletResponse);
+            return;
+        }
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        long result = rateLimiter.tryAcquire(authentication, httpServletRequest.getRemoteAddr(), System.nanoTime());
+
+        httpServletResponse.setIntHeader("X-RateLimit-Limit", rateLimiter.capacityOf(authentication));
+        if (result < 0) {
+            long waitNanos = -(result + 1);
+            httpServletResponse.setIntHeader("X-RateLimit-Remaining", 0);
+            httpServletResponse.setIntHeader("Retry-After", (int) Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999)));
+            httpServletResponse.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            return;
+        }
+        httpServletResponse.setIntHeader("X-RateLimit-Remaining", (int) result);
+        filterChain.doFilter(httpServletRequest, httpServletResponse);
+    }
+}
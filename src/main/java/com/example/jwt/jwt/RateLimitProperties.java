@@ -0,0 +1,55 @@
+package com.example.jwt.jwt;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+* @package : com.example.jwt.jwt
+* @name : RateLimitProperties.java
+* @date : 2026-10-18 오후 9:40
+* @author : hj
+* @Description: application.yml 의 auth.rate-limit 설정을 바인딩하는 클래스
+**/
+//권한별 한도처럼 Map 형태의 설정이라 @ConfigurationProperties로 바인딩
+@Component
+@ConfigurationProperties(prefix = "auth.rate-limit")
+@Getter
+@Setter
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+
+    //보관할 최대 버킷 수 (유저 + IP 각각), 넘으면 Caffeine 정책에 따라 제거
+    private long maximumBuckets = 100000;
+
+    //이 시간 동안 요청이 없던 버킷은 제거 (가득 찬 상태로 다시 시작하는 것과 같음)
+    private long bucketIdleSeconds = 600;
+
+    //토큰이 없는 요청(IP 기준)의 한도
+    private Limit anonymous = new Limit(60, 1);
+
+    //권한명 -> 한도, 권한이 여러 개면 가장 큰 한도를 사용, 해당 권한이 없으면 anonymous 한도 사용
+    private Map<String, Limit> authorities = new LinkedHashMap<>();
+
+    @Getter
+    @Setter
+    public static class Limit {
+        //한 번에 몰아서 보낼 수 있는 최대 요청 수 (버킷 크기)
+        private int capacity;
+        //초당 채워지는 요청 수
+        private int replenishPerSecond;
+
+        public Limit() {
+        }
+
+        public Limit(int capacity, int replenishPerSecond) {
+            this.capacity = capacity;
+            this.replenishPerSecond = replenishPerSecond;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.example.jwt.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+* @package : com.example.jwt.jwt
+* @name : RateLimiter.java
+* @date : 2026-10-18 오후 9:40
+* @author : hj
+* @Description: 토큰 subject(없으면 IP) 별 token bucket으로 요청 수를 제한하는 클래스
+**/
+//버킷은 "다음 요청이 허용되는 이론상 시각" 하나만 AtomicLong으로 가지는 GCRA 방식이라 요청마다 CAS 한 번으로 끝남 (락, 객체 생성 없음)
+//버킷은 최대 크기와 미사용 시간으로 제한된 Caffeine 캐시에 보관하며, 유저와 IP는 별도 캐시를 사용 (키 문자열을 새로 만들지 않기 위함)
+//권한별 한도는 RateLimitProperties(auth.rate-limit.authorities) 로 설정
+//권한이 바뀐 토큰으로 요청하면 버킷을 새 한도로 교체하여 X-RateLimit-Limit 헤더와 실제 한도가 항상 같도록 함
+@Component
+public class RateLimiter {
+
+    private final boolean enabled;
+    private final Cache<String, Bucket> userBuckets;
+    private final Cache<String, Bucket> ipBuckets;
+    private final Map<String, Limit> authorityLimits = new HashMap<>();
+    private final Limit anonymousLimit;
+
+    //버킷 생성 함수, 요청마다 람다를 만들지 않도록 필드로 보관
+    private final Function<String, Bucket> anonymousBucketFactory;
+
+    private final Counter allowedCounter;
+    private final Counter rejectedCounter;
+
+    public RateLimiter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        this.enabled = properties.isEnabled();
+        this.userBuckets = newCache(properties);
+        this.ipBuckets = newCache(properties);
+        properties.getAuthorities().forEach((authority, limit) -> authorityLimits.put(authority, Limit.of(limit)));
+        this.anonymousLimit = Limit.of(properties.getAnonymous());
+        this.anonymousBucketFactory = ignored -> new Bucket(anonymousLimit);
+
+        this.allowedCounter = Counter.builder("auth.rate-limit.requests")
+                .tag("result", "allowed")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("auth.rate-limit.requests")
+                .tag("result", "rejected")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+    * @methodName : tryAcquire
+    * @date : 2026-10-18 오후 9:40
+    * @author : hj
+    * @Description: 요청 1건을 허용할지 확인, 인증 정보가 있으면 subject 기준, 없으면 IP 기준
+    **/
+    //허용되면 남은 요청 수(0 이상), 거절되면 -(다시 시도할 수 있을 때까지의 nanos) - 1 을 리턴 (결과 객체를 만들지 않기 위함)
+    long tryAcquire(Authentication authentication, String clientIp, long nowNanos) {
+        Bucket bucket;
+        if (authentication != null) {
+            Limit limit = limitOf(authentication.getAuthorities());
+            bucket = userBuckets.get(authentication.getName(), limit.bucketFactory);
+            if (bucket.limit != limit) {
+                //버킷을 만든 뒤 권한이 바뀐 경우, 사용한 양은 유지하여 이전 토큰과 번갈아 보내도 버킷이 다시 차지 않게 함
+                bucket = userBuckets.asMap().compute(authentication.getName(), (username, current) ->
+                        current == null ? new Bucket(limit) : current.limit == limit ? current : current.withLimit(limit, nowNanos));
+            }
+        } else {
+            bucket = ipBuckets.get(clientIp, anonymousBucketFactory);
+        }
+
+        long result = bucket.tryAcquire(nowNanos);
+        if (result >= 0) {
+            allowedCounter.increment();
+        } else {
+            rejectedCounter.increment();
+        }
+        return result;
+    }
+
+    //버킷 크기 (X-RateLimit-Limit 헤더 값)
+    int capacityOf(Authentication authentication) {
+        return authentication != null ? limitOf(authentication.getAuthorities()).capacity : anonymousLimit.capacity;
+    }
+
+    //권한 중 가장 큰 한도
+    private Limit limitOf(Collection<? extends GrantedAuthority> authorities) {
+        Limit selected = null;
+        for (GrantedAuthority authority : authorities) {
+            Limit limit = authorityLimits.get(authority.getAuthority());
+            if (limit != null && (selected == null || limit.capacity > selected.capacity)) {
+                selected = limit;
+            }
+        }
+        return selected != null ? selected : anonymousLimit;
+    }
+
+    private static Cache<String, Bucket> newCache(RateLimitProperties properties) {
+        return Caffeine.newBuilder()
+                .maximumSize(properties.getMaximumBuckets())
+                .expireAfterAccess(Duration.ofSeconds(properties.getBucketIdleSeconds()))
+                .build();
+    }
+
+    //설정값을 nanos 단위로 미리 계산해 둔 한도
+    private static final class Limit {
+        private final int capacity;
+        private final long intervalNanos;   //요청 1건이 채워지는 데 걸리는 시간
+        private final long toleranceNanos;  //한 번에 몰아서 허용되는 양 (capacity - 1 건)
+        private final Function<String, Bucket> bucketFactory;
+
+        private Limit(int capacity, int replenishPerSecond) {
+            this.capacity = Math.max(1, capacity);
+            this.intervalNanos = TimeUnit.SECONDS.toNanos(1) / Math.max(1, replenishPerSecond);
+            this.toleranceNanos = intervalNanos * (this.capacity - 1);
+            this.bucketFactory = ignored -> new Bucket(this);
+        }
+
+        static Limit of(RateLimitProperties.Limit limit) {
+            return new Limit(limit.getCapacity(), limit.getReplenishPerSecond());
+        }
+    }
+
+    //GCRA(Generic Cell Rate Algorithm) token bucket
+    static final class Bucket {
+        private final Limit limit;
+        //다음 요청이 "버킷이 비어 있지 않은 상태로" 도착해야 하는 이론상 시각 (theoretical arrival time)
+        private final AtomicLong tat = new AtomicLong(Long.MIN_VALUE);
+
+        private Bucket(Limit limit) {
+            this.limit = limit;
+        }
+
+        //같은 양(요청 수)이 사용된 상태의 새 한도 버킷, 새 버킷 크기보다 많이 사용했으면 빈 버킷
+        Bucket withLimit(Limit newLimit, long nowNanos) {
+            Bucket resized = new Bucket(newLimit);
+            long current = tat.get();
+            if (current != Long.MIN_VALUE && current - nowNanos > 0) {
+                long used = (current - nowNanos + limit.intervalNanos - 1) / limit.intervalNanos;
+                resized.tat.set(nowNanos + Math.min(used, newLimit.capacity) * newLimit.intervalNanos);
+            }
+            return resized;
+        }
+
+        long tryAcquire(long nowNanos) {
+            while (true) {
+                long current = tat.get();
+                long start = current == Long.MIN_VALUE || current - nowNanos < 0 ? nowNanos : current;
+                long waitNanos = start - nowNanos - limit.toleranceNanos;
+                if (waitNanos > 0) {
+                    return -waitNanos - 1;
+                }
+                if (tat.compareAndSet(current, start + limit.intervalNanos)) {
+                    return (limit.toleranceNanos - (start - nowNanos)) / limit.intervalNanos;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.example.jwt.jwt;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.util.StringUtils;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.net.InetSocketAddress;
+
+/**
+* @package : com.example.jwt.jwt
+* @name : ReactiveJwtFilter.java
+* @date : 2026-10-19 오전 2:10
+* @author : hj
+* @Description: WebFlux 런타임(reactive 프로필)에서 JwtFilter 와 같은 역할을 하는 WebFilter
+**/
+//같은 TokenProvider 로 검증하므로 검증 캐시, 폐기 목록, 프로필 클레임 처리가 서블릿 모드와 동일
+//요청 스레드가 없으므로 인증 정보는 SecurityContextHolder 대신 Reactor Context(ReactiveSecurityContextHolder)에 저장
+//서명 검증은 CPU 작업이고 DB를 조회하지 않으므로 이벤트 루프에서 그대로 실행
+public class ReactiveJwtFilter implements WebFilter {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReactiveJwtFilter.class);
+
+    private final TokenProvider tokenProvider;
+
+    public ReactiveJwtFilter(TokenProvider tokenProvider) {
+        this.tokenProvider = tokenProvider;
+    }
+
+    /**
+    * @methodName : filter
+    * @date : 2026-10-19 오전 2:10
+    * @author : hj
+    * @Description: 토큰이 유효하면 인증 정보를 Reactor Context 에 넣고 다음 필터 실행
+    **/
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        String jwt = resolveToken(exchange.getRequest());
+        TokenValidationResult result = StringUtils.hasText(jwt) ? tokenProvider.verifyToken(jwt) : null;
+        if (result == null || !result.isValid()) {
+            logger.debug("유효한 JWT 토큰이 없습니다, uri: {}", exchange.getRequest().getPath());
+            return chain.filter(exchange);
+        }
+        Authentication authentication = tokenProvider.getAuthentication(result);
+        logger.debug("Reactor Context에 '{}' 인증 정보를 저장했습니다, uri: {}", authentication.getName(), exchange.getRequest().getPath());
+        return chain.filter(exchange)
+                .contextWrite(ReactiveSecurityContextHolder.withAuthentication(authentication));
+    }
+
+    /**
+    * @methodName : clientIp
+    * @date : 2026-10-19 오전 2:10
+    * @author : hj
+    * @Description: 요청한 클라이언트 IP (서블릿의 getRemoteAddr 에 해당)
+    **/
+    public static String clientIp(ServerHttpRequest request) {
+        InetSocketAddress remoteAddress = request.getRemoteAddress();
+        if (remoteAddress == null) {
+            return null;
+        }
+        return remoteAddress.getAddress() != null ? remoteAddress.getAddress().getHostAddress() : remoteAddress.getHostString();
+    }
+
+    private String resolveToken(ServerHttpRequest request) {
+        String bearerToken = request.getHeaders().getFirst(JwtFilter.AUTHORIZATION_HEADER);
+        if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
+            return bearerToken.substring(7);
+        }
+        return null;
+    }
+}
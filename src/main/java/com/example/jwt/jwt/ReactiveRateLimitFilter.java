@@ -0,0 +1,63 @@
+package com.example.jwt.jwt;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.server.reactive.ServerHttpResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.ReactiveSecurityContextHolder;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.web.server.ServerWebExchange;
+import org.springframework.web.server.WebFilter;
+import org.springframework.web.server.WebFilterChain;
+import reactor.core.publisher.Mono;
+
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+* @package : com.example.jwt.jwt
+* @name : ReactiveRateLimitFilter.java
+* @date : 2026-10-19 오전 2:10
+* @author : hj
+* @Description: WebFlux 런타임에서 RateLimitFilter 와 같은 기준으로 /api/** 요청 수를 제한하는 WebFilter
+**/
+//ReactiveJwtFilter 다음에 실행되어 Reactor Context 의 인증 정보(subject) 또는 IP 기준으로 같은 RateLimiter 버킷을 사용
+public class ReactiveRateLimitFilter implements WebFilter {
+
+    private static final String API_PREFIX = "/api/";
+
+    private final RateLimiter rateLimiter;
+
+    public ReactiveRateLimitFilter(RateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    public Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain) {
+        if (!rateLimiter.isEnabled() || !exchange.getRequest().getPath().value().startsWith(API_PREFIX)) {
+            return chain.filter(exchange);
+        }
+        return ReactiveSecurityContextHolder.getContext()
+                .map(SecurityContext::getAuthentication)
+                .map(Optional::of)
+                .defaultIfEmpty(Optional.empty())
+                .flatMap(authentication -> filter(exchange, chain, authentication.orElse(null)));
+    }
+
+    private Mono<Void> filter(ServerWebExchange exchange, WebFilterChain chain, Authentication authentication) {
+        long result = rateLimiter.tryAcquire(authentication, ReactiveJwtFilter.clientIp(exchange.getRequest()), System.nanoTime());
+
+        ServerHttpResponse response = exchange.getResponse();
+        HttpHeaders headers = response.getHeaders();
+        headers.set("X-RateLimit-Limit", String.valueOf(rateLimiter.capacityOf(authentication)));
+        if (result < 0) {
+            long waitNanos = -(result + 1);
+            headers.set("X-RateLimit-Remaining", "0");
+            headers.set(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, TimeUnit.NANOSECONDS.toSeconds(waitNanos + 999_999_999))));
+            response.setStatusCode(HttpStatus.TOO_MANY_REQUESTS);
+            return response.setComplete();
+        }
+        headers.set("X-RateLimit-Remaining", String.valueOf(result));
+        return chain.filter(exchange);
+    }
+}
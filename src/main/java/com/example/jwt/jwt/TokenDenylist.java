@@ -0,0 +1,175 @@
+package com.example.jwt.jwt;
+
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Date;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+* @package : com.example.jwt.jwt
+* @name : TokenDenylist.java
+* @date : 2026-10-18 오후 4:10
+* @author : hj
+* @Description: 로그아웃/강제 만료된 access token을 걸러내는 클래스
+**/
+//폐기된 토큰은 jti 기준으로 저장하며, 매 요청마다 확인해야 하므로 Bloom filter로 먼저 거른 뒤 정확한 set을 확인
+//폐기되지 않은 토큰(대부분의 요청)은 Bloom filter 에서 해시 몇 번과 비트 확인만으로 끝나고 DB는 조회하지 않음
+//유저 단위 폐기는 "이 시각 이전에 발급된 토큰은 모두 무효" 라는 기준 시각(iat 비교)으로 처리
+//메모리에만 보관하므로 서버가 재시작되면 폐기 정보는 사라짐 (access token 유효시간이 짧으므로 허용)
+@Component
+public class TokenDenylist {
+
+    //폐기된 jti -> 토큰 만료 시각, 만료 시각이 지나면 정리 작업에서 삭제
+    private final ConcurrentMap<String, Long> revokedTokens = new ConcurrentHashMap<>();
+    //username -> 이 시각(epoch millis) 이전에 발급된 토큰은 모두 무효
+    private final ConcurrentMap<String, Long> revokedBefore = new ConcurrentHashMap<>();
+
+    private final int expectedInsertions;
+    private final long tokenValidityInMilliseconds;
+
+    private volatile BloomFilter bloomFilter;
+
+    public TokenDenylist(
+            @Value("${jwt.denylist.expected-insertions:100000}") int expectedInsertions,
+            @Value("${jwt.token-validity-in-seconds}") long tokenValidityInSeconds) {
+        this.expectedInsertions = expectedInsertions;
+        this.tokenValidityInMilliseconds = tokenValidityInSeconds * 1000;
+        this.bloomFilter = new BloomFilter(expectedInsertions);
+    }
+
+    /**
+    * @methodName : isRevoked
+    * @date : 2026-10-18 오후 4:10
+    * @author : hj
+    * @Description: 서명 검증이 끝난 토큰의 클레임으로 폐기 여부를 확인하는 메서드
+    **/
+    public boolean isRevoked(Claims claims) {
+        String jti = claims.getId();
+        if (jti != null && bloomFilter.mightContain(jti) && revokedTokens.containsKey(jti)) {
+            return true;
+        }
+
+        //유저 단위 폐기가 하나도 없으면 subject 조회도 하지 않음
+        if (revokedBefore.isEmpty()) {
+            return false;
+        }
+        Long cutoff = revokedBefore.get(claims.getSubject());
+        if (cutoff == null) {
+            return false;
+        }
+        //iat는 초 단위이므로 폐기 시각과 같은 초에 발급된 토큰도 폐기된 것으로 처리됨
+        Date issuedAt = claims.getIssuedAt();
+        return issuedAt == null || issuedAt.getTime() < cutoff;
+    }
+
+    /**
+    * @methodName : revoke
+    * @date : 2026-10-18 오후 4:10
+    * @author : hj
+    * @Description: 토큰 하나(jti)를 만료 시각까지 폐기
+    **/
+    public synchronized void revoke(String jti, long expirationMillis) {
+        if (jti == null || expirationMillis <= System.currentTimeMillis()) {
+            return; //이미 만료된 토큰은 저장할 필요 없음
+        }
+        revokedTokens.put(jti, expirationMillis);
+        bloomFilter.put(jti);
+    }
+
+    /**
+    * @methodName : revokeAllIssuedBefore
+    * @date : 2026-10-18 오후 4:10
+    * @author : hj
+    * @Description: 해당 유저에게 지금까지 발급된 모든 토큰을 폐기
+    **/
+    public void revokeAllIssuedBefore(String username, long cutoffMillis) {
+        revokedBefore.merge(username, cutoffMillis, Math::max);
+    }
+
+    /**
+    * @methodName : prune
+    * @date : 2026-10-18 오후 4:10
+    * @author : hj
+    * @Description: 만료 시각이 지난 폐기 정보를 삭제하고 Bloom filter를 다시 만듦
+    **/
+    //Bloom filter는 삭제가 불가능하므로 남은 jti로 새로 만들어 교체
+    @Scheduled(fixedDelayString = "${jwt.denylist.prune-interval-ms:60000}")
+    public synchronized void prune() {
+        long now = System.currentTimeMillis();
+        boolean removed = revokedTokens.values().removeIf(expiration -> expiration <= now);
+        //기준 시각 이전에 발급된 토큰이 모두 만료되었으면 더 이상 필요 없음
+        revokedBefore.values().removeIf(cutoff -> cutoff + tokenValidityInMilliseconds <= now);
+
+        if (removed) {
+            BloomFilter rebuilt = new BloomFilter(Math.max(expectedInsertions, revokedTokens.size() * 2));
+            revokedTokens.keySet().forEach(rebuilt::put);
+            this.bloomFilter = rebuilt;
+        }
+    }
+
+    public int size() {
+        return revokedTokens.size();
+    }
+
+    //비트 배열 기반 Bloom filter (오탐률 약 1%), 조회는 락 없이 수행
+    static final class BloomFilter {
+        private static final int HASH_FUNCTIONS = 7;
+        private static final int BITS_PER_ELEMENT = 10;
+
+        private final AtomicLongArray words;
+        private final long bitCount;
+
+        BloomFilter(int expectedInsertions) {
+            int wordCount = Math.max(1, (int) (((long) expectedInsertions * BITS_PER_ELEMENT + 63) / 64));
+            this.words = new AtomicLongArray(wordCount);
+            this.bitCount = (long) wordCount * 64;
+        }
+
+        void put(String value) {
+            long hash = hash(value);
+            int hash1 = (int) hash;
+            int hash2 = (int) (hash >>> 32);
+            for (int i = 1; i <= HASH_FUNCTIONS; i++) {
+                long bit = index(hash1 + i * hash2);
+                int word = (int) (bit >>> 6);
+                long mask = 1L << bit;
+                long current;
+                do {
+                    current = words.get(word);
+                } while ((current & mask) == 0 && !words.compareAndSet(word, current, current | mask));
+            }
+        }
+
+        boolean mightContain(String value) {
+            long hash = hash(value);
+            int hash1 = (int) hash;
+            int hash2 = (int) (hash >>> 32);
+            for (int i = 1; i <= HASH_FUNCTIONS; i++) {
+                long bit = index(hash1 + i * hash2);
+                if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        private long index(int combinedHash) {
+            return (combinedHash & Integer.MAX_VALUE) % bitCount;
+        }
+
+        //64비트 FNV-1a, 문자열을 복사하지 않고 char 단위로 계산
+        private static long hash(String value) {
+            long hash = 0xcbf29ce484222325L;
+            for (int i = 0; i < value.length(); i++) {
+                hash ^= value.charAt(i);
+                hash *= 0x100000001b3L;
+            }
+            return hash;
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.example.jwt.jwt;
+
+/**
+* @package : com.example.jwt.jwt
+* @name : TokenProfile.java
+* @date : 2026-10-18 오후 6:20
+* @author : hj
+* @Description: 토큰의 프로필 클레임(nickname, pver)을 담는 불변 객체
+**/
+//jwt.profile-claim.enabled 가 true일 때 발급된 토큰만 가지고 있으며 Authentication의 details로 저장됨
+//UserService는 pver가 현재 프로필 버전과 같으면 DB 조회 없이 이 값으로 /api/user 응답을 만듦
+public final class TokenProfile {
+    private final String username;
+    private final String nickname;
+    private final long version;
+
+    TokenProfile(String username, String nickname, long version) {
+        this.username = username;
+        this.nickname = nickname;
+        this.version = version;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getNickname() {
+        return nickname;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+}
@@ -1,8 +1,13 @@
 package com.example.jwt.jwt;
 
+import com.example.jwt.jfr.TokenCreateEvent;
+import com.example.jwt.jfr.TokenVerifyEvent;
+import com.example.jwt.service.UserCache;
+import com.example.jwt.utils.AuthorityRegistry;
+import com.example.jwt.utils.ThrottledLogger;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.InitializingBean;
@@ -10,14 +15,14 @@ import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.User;
 import org.springframework.stereotype.Component;
 
-import java.security.Key;
-import java.util.Arrays;
 import java.util.Collection;
 import java.util.Date;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
@@ -27,33 +32,103 @@ import java.util.stream.Collectors;
 * @author : hj
 * @Description: 토큰의 생성, 토큰의 유효성 검증, 암호화 설정 등의 역할을 담당하는 클래스
 **/
+//검증/생성 시간은 /actuator/metrics/auth.token.verify (result=valid|invalid_signature|malformed|expired|...), auth.token.create 로 확인
+//검증 실패 로그는 사유별로 FAILURE_LOG_INTERVAL_MILLIS 마다 한 번만 남김 (건수는 메트릭으로 확인)
+//JFR 기록 중에는 생성/검증마다 TokenCreateEvent, TokenVerifyEvent 를 남김 (jfr 패키지 참고)
 @Component
 public class TokenProvider implements InitializingBean {
     //InitializingBean을 implements 받아 afterPropertiesSet을 Override 하는 이유는
-    //TokenProvider Bean이 생성되고, 주입을 받은 후에 secret 값을 Base64 Decode해서 key변수에 할당하기 위함
+    //TokenProvider Bean이 생성되고, 주입을 받은 후에 JwtKeyRing을 사용하는 파서를 한 번만 만들기 위함
 
     private final Logger logger = LoggerFactory.getLogger(TokenProvider.class);
 
     private static final String AUTHORITIES_KEY = "auth";
+    private static final String NICKNAME_KEY = "nickname";
+    private static final String PROFILE_VERSION_KEY = "pver";
+
+    private static final long FAILURE_LOG_INTERVAL_MILLIS = 10_000;
 
-    private final String secret;
     private final long tokenValidityInMilliseconds;
 
-    private Key key;
+    //kid 별 서명/검증 키 (jwt.secret 키 포함)
+    private final JwtKeyRing keyRing;
+
+    //서명 검증용 파서, afterPropertiesSet에서 한 번만 생성 (JwtParser는 불변 객체라 여러 스레드에서 공유 가능)
+    private JwtParser jwtParser;
+
+    //검증된 토큰 캐시, jwt.cache.enabled가 false이면 null
+    private final VerifiedTokenCache verifiedTokenCache;
+
+    private final TokenDenylist tokenDenylist;
 
+    //프로필 클레임(nickname, pver)을 만들 때 사용, jwt.profile-claim.enabled가 false이면 null
+    private final UserCache userCache;
+
+    private final Timer createTimer;
+    private final Timer validTimer;
+    //FailureReason.ordinal() 순서, 요청마다 태그를 만들지 않도록 미리 생성
+    private final Timer[] failureTimers;
+    private final String[] failureResults;
+    private final ThrottledLogger[] failureLogs;
 
     public TokenProvider(    //application.yml에서 정의한 header와 validity 값 주입
-            @Value("${jwt.secret}") String secret,
-            @Value("${jwt.token-validity-in-seconds}") long tokenValidityInSeconds) {
-        this.secret = secret;
+            JwtKeyRing keyRing,
+            @Value("${jwt.token-validity-in-seconds}") long tokenValidityInSeconds,
+            @Value("${jwt.cache.enabled:false}") boolean cacheEnabled,
+            @Value("${jwt.cache.maximum-size:10000}") long cacheMaximumSize,
+            TokenDenylist tokenDenylist,
+            @Value("${jwt.profile-claim.enabled:false}") boolean profileClaimEnabled,
+            UserCache userCache,
+            MeterRegistry meterRegistry) {
+        this.keyRing = keyRing;
         this.tokenValidityInMilliseconds = tokenValidityInSeconds * 1000;
+        this.verifiedTokenCache = cacheEnabled ? new VerifiedTokenCache(cacheMaximumSize, meterRegistry) : null;
+        this.tokenDenylist = tokenDenylist;
+        this.userCache = profileClaimEnabled ? userCache : null;
+
+        this.createTimer = Timer.builder("auth.token.create")
+                .description("access token 생성(서명) 시간")
+                .register(meterRegistry);
+        this.validTimer = verifyTimer(meterRegistry, "valid");
+        TokenValidationResult.FailureReason[] reasons = TokenValidationResult.FailureReason.values();
+        this.failureTimers = new Timer[reasons.length];
+        this.failureResults = new String[reasons.length];
+        this.failureLogs = new ThrottledLogger[reasons.length];
+        for (TokenValidationResult.FailureReason reason : reasons) {
+            failureResults[reason.ordinal()] = reason.name().toLowerCase(Locale.ROOT);
+            failureTimers[reason.ordinal()] = verifyTimer(meterRegistry, failureResults[reason.ordinal()]);
+            failureLogs[reason.ordinal()] = new ThrottledLogger(logger, failureMessage(reason), FAILURE_LOG_INTERVAL_MILLIS);
+        }
+    }
+
+    private static Timer verifyTimer(MeterRegistry meterRegistry, String result) {
+        return Timer.builder("auth.token.verify")
+                .tag("result", result)
+                .description("access token 검증 시간 (검증된 토큰 캐시, 폐기 여부 확인 포함)")
+                .register(meterRegistry);
+    }
+
+    private static String failureMessage(TokenValidationResult.FailureReason reason) {
+        switch (reason) {
+            case INVALID_SIGNATURE:
+                return "잘못된 JWT 서명입니다.";
+            case MALFORMED:
+                return "JWT 형식이 잘못되었습니다.";
+            case EXPIRED:
+                return "만료된 JWT 토큰입니다.";
+            case UNSUPPORTED:
+                return "지원되지 않는 JWT 토큰입니다.";
+            case REVOKED:
+                return "폐기된 JWT 토큰입니다.";
+            default:
+                return "JWT 토큰이 잘못되었습니다.";
+        }
     }
 
-    //빈이 생성이 되고 의존성 주입 이후에 secret값을 Base64 Decode해서 key 변수에 할당하기 위함
+    //빈이 생성이 되고 의존성 주입 이후에 토큰 헤더의 kid로 검증 키를 찾는 파서를 만들기 위함
     @Override
     public void afterPropertiesSet() {
-        byte[] keyBytes = Decoders.BASE64.decode(secret);
-        this.key = Keys.hmacShaKeyFor(keyBytes);
+        this.jwtParser = Jwts.parserBuilder().setSigningKeyResolver(keyRing).build();
     }
 
     /**
@@ -64,7 +139,10 @@ public class TokenProvider implements InitializingBean {
     **/
     //Authentication 객체에 포함되어 있는 권한 정보들을 담은 토큰 생성
     public String createToken(Authentication authentication) {
-        
+        TokenCreateEvent event = new TokenCreateEvent();
+        event.begin();
+        long start = System.nanoTime();
+
         //권한 가져오기
         String authorities = authentication.getAuthorities().stream()
                 .map(GrantedAuthority::getAuthority)
@@ -75,13 +153,40 @@ public class TokenProvider implements InitializingBean {
         //현재 시간과 yml 파일에서 설정한 토큰 만료시간을 붙임
         Date validity = new Date(now + this.tokenValidityInMilliseconds);
 
+        //현재 서명 키, kid 헤더로 어떤 키로 서명했는지 알려줌
+        JwtKeyRing.RingKey signingKey = keyRing.getActiveKey();
+
         //토큰 생성하여 리턴
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, signingKey.getKid())
+                .setId(UUID.randomUUID().toString()) //jti, 로그아웃 시 토큰 하나만 폐기하기 위해 사용
                 .setSubject(authentication.getName())
+                .setIssuedAt(new Date(now))  //iat, 유저 단위 폐기 시 발급 시각 비교에 사용
                 .claim(AUTHORITIES_KEY, authorities) //JWT의 body이고 key-value 데이터를 추가함. 여기서는 권한정보
                 .setExpiration(validity)  //만료일 설정
-                .signWith(key, SignatureAlgorithm.HS512) //HS512 알고리즘 적용
-                .compact(); //토큰 생성
+                .signWith(signingKey.getSigningKey(), signingKey.getAlgorithm()); //키에 맞는 알고리즘 적용(기본 HS512)
+
+        if (userCache != null) {
+            addProfileClaims(builder, authentication.getName());
+        }
+        String token = builder.compact(); //토큰 생성
+        createTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.kid = signingKey.getKid();
+            event.tokenLength = token.length();
+            event.commit();
+        }
+        return token;
+    }
+
+    //버전을 먼저 읽고 유저 정보를 읽음 (그 사이에 프로필이 바뀌면 버전이 맞지 않아 DB 조회로 처리됨)
+    private void addProfileClaims(JwtBuilder builder, String username) {
+        long profileVersion = userCache.getProfileVersion(username);
+        userCache.get(username).ifPresent(user -> builder
+                .claim(NICKNAME_KEY, user.getNickname())
+                .claim(PROFILE_VERSION_KEY, profileVersion));
     }
 
     /**
@@ -91,26 +196,47 @@ public class TokenProvider implements InitializingBean {
     * @Description: JWT 토큰을 복호화하여 토큰에 들어있는 정보를 꺼내는 메서드
     **/
     //토큰에 담겨있는 권한 정보들을 이용해 Authentication 객체를 리턴
-    //JwtFilter에서 사용됨
     public Authentication getAuthentication(String token) {
         
         //토큰 복호화
-        Claims claims = Jwts
-                .parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-
-        //클레임에서 권한 가져오기
+        Claims claims = jwtParser.parseClaimsJws(token).getBody();
+
+        return createAuthentication(token, claims);
+    }
+
+    /**
+    * @methodName : getAuthentication
+    * @date : 2026-10-18 오전 10:12
+    * @author : hj
+    * @Description: verifyToken 으로 이미 검증된 결과에서 Authentication 객체를 꺼내는 메서드
+    **/
+    //JwtFilter에서 사용됨, 토큰을 다시 파싱하지 않음
+    public Authentication getAuthentication(TokenValidationResult result) {
+        if (!result.isValid()) {
+            throw new IllegalArgumentException("검증에 실패한 토큰입니다: " + result.getFailureReason());
+        }
+        if (result.getAuthentication() != null) { //캐시에서 꺼낸 결과는 인증 정보를 이미 가지고 있음
+            return result.getAuthentication();
+        }
+        return createAuthentication(result.getToken(), result.getClaims());
+    }
+
+    private Authentication createAuthentication(String token, Claims claims) {
+        //클레임에서 권한 가져오기 (같은 권한 조합이면 공유 중인 불변 리스트를 그대로 사용)
         Collection<? extends GrantedAuthority> authorities =
-                Arrays.stream(claims.get(AUTHORITIES_KEY).toString().split(","))
-                        .map(SimpleGrantedAuthority::new)
-                        .collect(Collectors.toList());
+                AuthorityRegistry.parse(claims.get(AUTHORITIES_KEY).toString());
 
         //UserDetails 객체를 만들어서 Authentication 리턴
         User principal = new User(claims.getSubject(), "", authorities);
-        return new UsernamePasswordAuthenticationToken(principal, token, authorities);
+        UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(principal, token, authorities);
+
+        //프로필 클레임이 있는 토큰이면 details로 저장 (/api/user 응답에 사용)
+        Object profileVersion = claims.get(PROFILE_VERSION_KEY);
+        if (profileVersion instanceof Number) {
+            authentication.setDetails(new TokenProfile(claims.getSubject(),
+                    claims.get(NICKNAME_KEY, String.class), ((Number) profileVersion).longValue()));
+        }
+        return authentication;
     }
 
     /**
@@ -120,18 +246,92 @@ public class TokenProvider implements InitializingBean {
     * @Description: 토큰 정보 검증하는 메서드
     **/
     public boolean validateToken(String token) {
+        return verifyToken(token).isValid();
+    }
+
+    /**
+    * @methodName : verifyToken
+    * @date : 2026-10-18 오전 10:12
+    * @author : hj
+    * @Description: 토큰을 한 번만 파싱하여 서명 검증 결과와 클레임을 함께 리턴하는 메서드
+    **/
+    //validateToken + getAuthentication 조합은 서명 검증을 두 번 수행하므로 JwtFilter는 이 메서드를 사용
+    public TokenValidationResult verifyToken(String token) {
+        TokenVerifyEvent event = new TokenVerifyEvent();
+        event.begin();
+        long start = System.nanoTime();
+        TokenValidationResult result = checkRevoked(verifySignature(token));
+        Timer timer = result.isValid() ? validTimer : failureTimers[result.getFailureReason().ordinal()];
+        timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.result = result.isValid() ? "valid" : failureResults[result.getFailureReason().ordinal()];
+            event.tokenLength = token == null ? 0 : token.length();
+            event.commit();
+        }
+        return result;
+    }
+
+    private TokenValidationResult verifySignature(String token) {
+        if (verifiedTokenCache == null) {
+            return parseToken(token);
+        }
+
+        TokenValidationResult cached = verifiedTokenCache.get(token);
+        if (cached != null) {
+            return cached;
+        }
+
+        TokenValidationResult result = parseToken(token);
+        if (result.isValid()) {
+            //캐시에는 인증 정보까지 만들어서 저장, 이후 요청은 파싱/권한 객체 생성 없이 그대로 사용
+            result = TokenValidationResult.valid(token, result.getClaims(),
+                    createAuthentication(token, result.getClaims()));
+            verifiedTokenCache.put(token, result);
+        }
+        return result;
+    }
+
+    //폐기 여부는 캐시된 결과에도 매번 확인 (캐시 이후에 로그아웃될 수 있음)
+    private TokenValidationResult checkRevoked(TokenValidationResult result) {
+        if (result.isValid() && tokenDenylist.isRevoked(result.getClaims())) {
+            return invalid(result.getToken(), TokenValidationResult.FailureReason.REVOKED);
+        }
+        return result;
+    }
+
+    /**
+    * @methodName : revokeToken
+    * @date : 2026-10-18 오후 4:10
+    * @author : hj
+    * @Description: 검증된 토큰을 만료 시각까지 폐기하는 메서드 (로그아웃)
+    **/
+    public void revokeToken(TokenValidationResult result) {
+        if (result.isValid()) {
+            tokenDenylist.revoke(result.getClaims().getId(), result.getExpirationMillis());
+        }
+    }
+
+    private TokenValidationResult parseToken(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
-        } catch (io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
-            logger.info("잘못된 JWT 서명입니다.");
+            Claims claims = jwtParser.parseClaimsJws(token).getBody();
+            return TokenValidationResult.valid(token, claims);
+        } catch (io.jsonwebtoken.security.SecurityException e) {
+            return invalid(token, TokenValidationResult.FailureReason.INVALID_SIGNATURE);
+        } catch (MalformedJwtException e) {
+            return invalid(token, TokenValidationResult.FailureReason.MALFORMED);
         } catch (ExpiredJwtException e) {
-            logger.info("만료된 JWT 토큰입니다.");
+            return invalid(token, TokenValidationResult.FailureReason.EXPIRED);
         } catch (UnsupportedJwtException e) {
-            logger.info("지원되지 않는 JWT 토큰입니다.");
+            return invalid(token, TokenValidationResult.FailureReason.UNSUPPORTED);
         } catch (IllegalArgumentException e) {
-            logger.info("JWT 토큰이 잘못되었습니다.");
+            return invalid(token, TokenValidationResult.FailureReason.ILLEGAL_ARGUMENT);
         }
-        return false;
+    }
+
+    private TokenValidationResult invalid(String token, TokenValidationResult.FailureReason reason) {
+        failureLogs[reason.ordinal()].info();
+        return TokenValidationResult.invalid(token, reason);
     }
 }
\ No newline at end of file
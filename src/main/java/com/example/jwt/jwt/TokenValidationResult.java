@@ -0,0 +1,80 @@
+package com.example.jwt.jwt;
+
+import io.jsonwebtoken.Claims;
+import org.springframework.security.core.Authentication;
+
+import java.util.Date;
+
+/**
+* @package : com.example.jwt.jwt
+* @name : TokenValidationResult.java
+* @date : 2026-10-18 오전 10:12
+* @author : hj
+* @Description: 토큰을 한 번만 파싱/서명 검증한 결과(클레임 + 실패 사유)를 담는 클래스
+**/
+//TokenProvider.verifyToken 에서 생성되며, JwtFilter는 이 결과만 가지고 인증 정보를 만든다
+public final class TokenValidationResult {
+
+    //검증 실패 사유, validateToken 의 catch 블록과 1:1로 대응 (메트릭의 result 태그로도 사용)
+    public enum FailureReason {
+        INVALID_SIGNATURE,  //잘못된 서명
+        MALFORMED,          //JWT 형식이 아님
+        EXPIRED,            //만료된 토큰
+        UNSUPPORTED,        //지원되지 않는 토큰
+        ILLEGAL_ARGUMENT,   //토큰이 비어있거나 잘못된 값
+        REVOKED             //로그아웃 등으로 폐기된 토큰
+    }
+
+    private final String token;
+    private final Claims claims;
+    private final FailureReason failureReason;
+    //검증된 토큰 캐시를 사용할 때만 미리 만들어 두는 인증 정보, 그 외에는 null
+    private final Authentication authentication;
+
+    private TokenValidationResult(String token, Claims claims, FailureReason failureReason, Authentication authentication) {
+        this.token = token;
+        this.claims = claims;
+        this.failureReason = failureReason;
+        this.authentication = authentication;
+    }
+
+    static TokenValidationResult valid(String token, Claims claims) {
+        return new TokenValidationResult(token, claims, null, null);
+    }
+
+    static TokenValidationResult valid(String token, Claims claims, Authentication authentication) {
+        return new TokenValidationResult(token, claims, null, authentication);
+    }
+
+    static TokenValidationResult invalid(String token, FailureReason failureReason) {
+        return new TokenValidationResult(token, null, failureReason, null);
+    }
+
+    public boolean isValid() {
+        return failureReason == null;
+    }
+
+    public String getToken() {
+        return token;
+    }
+
+    //유효한 토큰인 경우에만 값이 존재, 실패 시 null
+    public Claims getClaims() {
+        return claims;
+    }
+
+    //유효한 토큰인 경우 null
+    public FailureReason getFailureReason() {
+        return failureReason;
+    }
+
+    Authentication getAuthentication() {
+        return authentication;
+    }
+
+    //exp 클레임이 없으면 Long.MAX_VALUE
+    long getExpirationMillis() {
+        Date expiration = claims == null ? null : claims.getExpiration();
+        return expiration == null ? Long.MAX_VALUE : expiration.getTime();
+    }
+}
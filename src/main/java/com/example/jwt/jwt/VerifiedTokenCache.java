@@ -0,0 +1,88 @@
+package com.example.jwt.jwt;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.TimeUnit;
+
+/**
+* @package : com.example.jwt.jwt
+* @name : VerifiedTokenCache.java
+* @date : 2026-10-18 오전 11:05
+* @author : hj
+* @Description: 서명 검증이 끝난 토큰의 결과(클레임 + Authentication)를 보관하는 캐시
+**/
+//같은 토큰으로 반복 호출되는 경우 서명 검증, auth 클레임 파싱, 권한 객체 생성을 건너뛰기 위해 사용
+//키는 토큰 원문이 아닌 SHA-256 digest (메모리 절약 + 토큰 원문을 캐시에 키로 들고 있지 않기 위함)
+//각 엔트리는 토큰의 exp 시각에 맞춰 만료되며, 최대 크기를 넘으면 Caffeine의 정책에 따라 제거됨
+//hit/miss, 크기, 제거 건수는 /actuator/metrics/cache.gets (cache=jwt.verified-token, result=hit|miss) 등으로 확인
+class VerifiedTokenCache {
+
+    private static final String CACHE_NAME = "jwt.verified-token";
+
+    private static final ThreadLocal<MessageDigest> SHA_256 = ThreadLocal.withInitial(() -> {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    });
+
+    private final Cache<ByteBuffer, TokenValidationResult> cache;
+
+    VerifiedTokenCache(long maximumSize, MeterRegistry meterRegistry) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfter(new TokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    //캐시에 없거나 이미 만료된 토큰이면 null
+    TokenValidationResult get(String token) {
+        TokenValidationResult cached = cache.getIfPresent(digest(token));
+        if (cached == null || cached.getExpirationMillis() <= System.currentTimeMillis()) {
+            //Caffeine의 만료 처리는 약간 늦을 수 있으므로 exp를 한 번 더 확인
+            return null;
+        }
+        return cached;
+    }
+
+    void put(String token, TokenValidationResult result) {
+        if (result.isValid() && result.getExpirationMillis() != Long.MAX_VALUE) {
+            cache.put(digest(token), result);
+        }
+    }
+
+    private static ByteBuffer digest(String token) {
+        //ByteBuffer는 내용 기준으로 equals/hashCode 를 구현하므로 별도의 키 클래스가 필요 없음
+        return ByteBuffer.wrap(SHA_256.get().digest(token.getBytes(StandardCharsets.US_ASCII)));
+    }
+
+    //엔트리 수명을 토큰의 남은 유효시간으로 설정
+    private static class TokenExpiry implements Expiry<ByteBuffer, TokenValidationResult> {
+        @Override
+        public long expireAfterCreate(ByteBuffer key, TokenValidationResult value, long currentTime) {
+            long remainingMillis = value.getExpirationMillis() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0L, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(ByteBuffer key, TokenValidationResult value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(ByteBuffer key, TokenValidationResult value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
+}
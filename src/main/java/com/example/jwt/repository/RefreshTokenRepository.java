@@ -0,0 +1,37 @@
+package com.example.jwt.repository;
+
+import com.example.jwt.entity.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+/**
+* @package : com.example.jwt.repository
+* @name : RefreshTokenRepository.java
+* @date : 2026-10-18 오후 3:02
+* @author : hj
+* @Description: RefreshToken Entity에 매핑을 위해 생성
+ *              RefreshTokenService에서 호출
+**/
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, String> {
+
+    //아직 사용되지 않은 토큰만 사용 처리, 수정된 행이 0이면 이미 다른 요청(다른 서버 포함)이 사용한 토큰
+    @Modifying
+    @Query("update RefreshToken r set r.used = true where r.tokenHash = :tokenHash and r.used = false")
+    int markUsed(@Param("tokenHash") String tokenHash);
+
+    @Modifying
+    @Query("delete from RefreshToken r where r.familyId = :familyId")
+    int deleteByFamilyId(@Param("familyId") String familyId);
+
+    @Modifying
+    @Query("delete from RefreshToken r where r.username = :username")
+    int deleteByUsername(@Param("username") String username);
+
+    //만료된 토큰을 batchSize 개씩 삭제 (한 번에 큰 트랜잭션/락을 잡지 않기 위함)
+    @Modifying
+    @Query(value = "delete from refresh_token where token_hash in " +
+            "(select token_hash from refresh_token where expires_at < :now limit :batchSize)", nativeQuery = true)
+    int deleteExpired(@Param("now") long now, @Param("batchSize") int batchSize);
+}
@@ -0,0 +1,48 @@
+package com.example.jwt.repository;
+
+/**
+* @package : com.example.jwt.repository
+* @name : UserAuthorityRow.java
+* @date : 2026-10-18 오후 6:45
+* @author : hj
+* @Description: 유저 정보 + 권한 한 건을 담는 조회 전용 객체 (UserRepository.findAuthorityRowsByUsername)
+**/
+//엔티티가 아니므로 영속성 컨텍스트에 저장되지 않고, 변경 감지용 스냅샷도 만들어지지 않음
+//권한이 여러 개면 유저 정보가 같은 row가 권한 수만큼 조회됨
+public final class UserAuthorityRow {
+    private final String username;
+    private final String password;
+    private final String nickname;
+    private final boolean activated;
+    private final String authorityName;
+
+    public UserAuthorityRow(String username, String password, String nickname,
+                            boolean activated, String authorityName) {
+        this.username = username;
+        this.password = password;
+        this.nickname = nickname;
+        this.activated = activated;
+        this.authorityName = authorityName;
+    }
+
+    public String getUsername() {
+        return username;
+    }
+
+    public String getPassword() {
+        return password;
+    }
+
+    public String getNickname() {
+        return nickname;
+    }
+
+    public boolean isActivated() {
+        return activated;
+    }
+
+    //권한이 없는 유저는 null
+    public String getAuthorityName() {
+        return authorityName;
+    }
+}
@@ -1,9 +1,17 @@
 package com.example.jwt.repository;
 
+import com.example.jwt.config.SecondLevelCacheConfig;
 import com.example.jwt.entity.User;
+import org.hibernate.Hibernate;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import javax.persistence.QueryHint;
+import java.util.List;
 import java.util.Optional;
 
 
@@ -17,7 +25,28 @@ import java.util.Optional;
 **/
 
 public interface UserRepository extends JpaRepository<User, Long> {
-    @EntityGraph(attributePaths = "authorities") //쿼리가 수행될 때 Eager조회로 authorities정보를 같이 가져온다
-    Optional<User> findOneWithAuthoritiesByUsername(String username);
     //username을 기준으로 user정보를 조회하며 권한 정보를 같이 가져옴
+    //쿼리 캐시에 적중하면 @EntityGraph 가 적용되지 않아 authorities 가 지연 로딩 상태로 남으므로 트랜잭션 안에서 초기화
+    //(User.authorities 컬렉션 캐시와 Authority 엔티티 캐시에서 가져오므로 DB 조회 없음)
+    @Transactional(readOnly = true)
+    default Optional<User> findOneWithAuthoritiesByUsername(String username) {
+        Optional<User> user = findCachedOneByUsername(username);
+        user.ifPresent(found -> Hibernate.initialize(found.getAuthorities()));
+        return user;
+    }
+
+    //findOneWithAuthoritiesByUsername 에서만 호출
+    @EntityGraph(attributePaths = "authorities") //쿼리가 수행될 때 Eager조회로 authorities정보를 같이 가져온다
+    @QueryHints({  //username -> user_id 결과를 쿼리 캐시에 저장, users/user_authority 테이블이 JPA로 변경되면 Hibernate가 무효화
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = org.hibernate.jpa.QueryHints.HINT_CACHE_REGION, value = SecondLevelCacheConfig.USER_BY_USERNAME_REGION)})
+    @Query("select u from User u where u.username = :username")
+    Optional<User> findCachedOneByUsername(@Param("username") String username);
+
+    //UserCache 전용 조회, 엔티티 대신 필요한 컬럼만 UserAuthorityRow로 가져옴 (권한 하나당 한 row)
+    //권한 순서가 서버마다 달라지지 않도록 정렬 (응답 본문으로 만드는 ETag가 같은 데이터에서 같은 값이 되도록)
+    @Query("select new com.example.jwt.repository.UserAuthorityRow(" +
+            "u.username, u.password, u.nickname, u.activated, a.authorityName) " +
+            "from User u left join u.authorities a where u.username = :username order by a.authorityName")
+    List<UserAuthorityRow> findAuthorityRowsByUsername(@Param("username") String username);
 }
\ No newline at end of file
@@ -0,0 +1,301 @@
+package com.example.jwt.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+* @package : com.example.jwt.service
+* @name : AuthAuditLog.java
+* @date : 2026-10-18 오후 10:10
+* @author : hj
+* @Description: 로그인 성공/실패, 토큰 발급, 401/403 응답 등 인증 관련 이벤트를 AUTH_AUDIT_LOG 테이블에 기록하는 클래스
+**/
+//요청 스레드는 이벤트를 고정 크기 링 버퍼에 넣기만 하고(CAS 한 번) 바로 리턴, DB insert는 전용 스레드 하나가 모아서 batch로 수행
+//버퍼가 가득 찼을 때는 overflow-policy 에 따라 바로 버리거나(DROP) offer-timeout-ms 까지 기다린 뒤 버림(BLOCK)
+//서버 종료 시 버퍼에 남은 이벤트를 shutdown-timeout-ms 까지 모두 기록한 뒤 종료
+//기록/유실 건수는 /actuator/metrics/auth.audit.events (result=written|dropped|failed) 로 확인
+@Component
+public class AuthAuditLog implements InitializingBean, DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuthAuditLog.class);
+
+    private static final String METRIC_NAME = "auth.audit.events";
+    private static final String INSERT =
+            "insert into auth_audit_log (event_type, username, client_ip, detail, created_at) values (?, ?, ?, ?, ?)";
+
+    //DDL 컬럼 길이
+    private static final int USERNAME_LENGTH = 50;
+    private static final int CLIENT_IP_LENGTH = 45;
+    private static final int DETAIL_LENGTH = 255;
+
+    public enum EventType {
+        LOGIN_SUCCESS,
+        LOGIN_FAILURE,
+        LOGIN_BLOCKED,
+        TOKEN_ISSUED,
+        UNAUTHORIZED,
+        ACCESS_DENIED
+    }
+
+    public enum OverflowPolicy {
+        DROP,
+        BLOCK
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean enabled;
+    private final RingBuffer buffer;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final OverflowPolicy overflowPolicy;
+    private final long offerTimeoutNanos;
+    private final long shutdownTimeoutMillis;
+
+    private final Counter writtenCounter;
+    private final Counter droppedCounter;
+    private final Counter failedCounter;
+
+    private volatile boolean running;
+    private Thread writer;
+
+    public AuthAuditLog(
+            JdbcTemplate jdbcTemplate,
+            @Value("${auth.audit.enabled:true}") boolean enabled,
+            @Value("${auth.audit.buffer-size:8192}") int bufferSize,
+            @Value("${auth.audit.batch-size:200}") int batchSize,
+            @Value("${auth.audit.flush-interval-ms:200}") long flushIntervalMs,
+            @Value("${auth.audit.overflow-policy:DROP}") OverflowPolicy overflowPolicy,
+            @Value("${auth.audit.offer-timeout-ms:5}") long offerTimeoutMs,
+            @Value("${auth.audit.shutdown-timeout-ms:5000}") long shutdownTimeoutMs,
+            MeterRegistry meterRegistry) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.enabled = enabled;
+        this.buffer = new RingBuffer(bufferSize);
+        this.batchSize = Math.max(1, batchSize);
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        this.overflowPolicy = overflowPolicy;
+        this.offerTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(offerTimeoutMs);
+        this.shutdownTimeoutMillis = shutdownTimeoutMs;
+
+        this.writtenCounter = Counter.builder(METRIC_NAME)
+                .tag("result", "written")
+                .description("AUTH_AUDIT_LOG 테이블에 기록된 이벤트 수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder(METRIC_NAME)
+                .tag("result", "dropped")
+                .description("버퍼가 가득 차거나 종료 중이라 버려진 이벤트 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder(METRIC_NAME)
+                .tag("result", "failed")
+                .description("DB insert 실패로 기록하지 못한 이벤트 수")
+                .register(meterRegistry);
+        Gauge.builder("auth.audit.buffer.size", buffer, RingBuffer::size)
+                .description("기록을 기다리는 이벤트 수")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        if (!enabled) {
+            return;
+        }
+        running = true;
+        writer = new Thread(this::runWriter, "auth-audit-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+    * @methodName : record
+    * @date : 2026-10-18 오후 10:10
+    * @author : hj
+    * @Description: 이벤트를 버퍼에 추가 (DB 기록은 전용 스레드에서 비동기로 수행)
+    **/
+    //username, detail 은 없으면 null
+    public void record(EventType type, String username, String clientIp, String detail) {
+        if (!running) {
+            if (enabled) {
+                droppedCounter.increment();
+            }
+            return;
+        }
+        Event event = new Event(type, username, clientIp, detail, System.currentTimeMillis());
+        long position = buffer.offer(event);
+        if (position < 0 && overflowPolicy == OverflowPolicy.BLOCK) {
+            position = offerUntilTimeout(event);
+        }
+        if (position < 0) {
+            droppedCounter.increment();
+            return;
+        }
+        //batch 하나 분량이 쌓일 때마다 writer를 깨움 (그 외에는 flush-interval-ms 마다 writer가 스스로 확인)
+        if ((position + 1) % batchSize == 0) {
+            LockSupport.unpark(writer);
+        }
+    }
+
+    @Override
+    public void destroy() throws InterruptedException {
+        if (writer == null) {
+            return;
+        }
+        running = false;
+        LockSupport.unpark(writer);
+        writer.join(shutdownTimeoutMillis);
+        if (writer.isAlive()) {
+            logger.warn("종료 시간 안에 기록하지 못한 감사 로그가 있습니다. 남은 건수: {}", buffer.size());
+        }
+    }
+
+    //버퍼에 빈 자리가 생길 때까지 잠깐씩 쉬면서 재시도, timeout이 지나면 -1
+    private long offerUntilTimeout(Event event) {
+        long deadline = System.nanoTime() + offerTimeoutNanos;
+        LockSupport.unpark(writer);
+        while (System.nanoTime() - deadline < 0) {
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+            long position = buffer.offer(event);
+            if (position >= 0) {
+                return position;
+            }
+        }
+        return -1;
+    }
+
+    //running 이 false가 되어도 버퍼가 빌 때까지 기록한 뒤 종료
+    private void runWriter() {
+        List<Event> batch = new ArrayList<>(batchSize);
+        while (true) {
+            Event event;
+            while (batch.size() < batchSize && (event = buffer.poll()) != null) {
+                batch.add(event);
+            }
+            if (!batch.isEmpty()) {
+                write(batch);
+                batch.clear();
+                continue;
+            }
+            if (!running) {
+                return;
+            }
+            LockSupport.parkNanos(this, flushIntervalNanos);
+        }
+    }
+
+    private void write(List<Event> batch) {
+        try {
+            jdbcTemplate.batchUpdate(INSERT, batch, batch.size(), (ps, event) -> {
+                ps.setString(1, event.type.name());
+                ps.setString(2, truncate(event.username, USERNAME_LENGTH));
+                ps.setString(3, truncate(event.clientIp, CLIENT_IP_LENGTH));
+                ps.setString(4, truncate(event.detail, DETAIL_LENGTH));
+                ps.setTimestamp(5, new Timestamp(event.createdAt));
+            });
+            writtenCounter.increment(batch.size());
+        } catch (DataAccessException e) {
+            //재시도하면 DB 장애 동안 버퍼가 가득 차므로 해당 batch는 버리고 건수만 남김
+            failedCounter.increment(batch.size());
+            logger.warn("감사 로그 {}건을 기록하지 못했습니다.", batch.size(), e);
+        }
+    }
+
+    private static String truncate(String value, int length) {
+        return value == null || value.length() <= length ? value : value.substring(0, length);
+    }
+
+    //기록할 이벤트 (불변)
+    private static final class Event {
+        private final EventType type;
+        private final String username;
+        private final String clientIp;
+        private final String detail;
+        private final long createdAt;
+
+        private Event(EventType type, String username, String clientIp, String detail, long createdAt) {
+            this.type = type;
+            this.username = username;
+            this.clientIp = clientIp;
+            this.detail = detail;
+            this.createdAt = createdAt;
+        }
+    }
+
+    //여러 스레드가 넣고(offer) writer 스레드 하나만 꺼내는(poll) 고정 크기 링 버퍼 (락 없음)
+    //슬롯마다 sequence를 두어 넣는 쪽은 tail CAS 한 번으로 자리를 잡고, sequence 값으로 슬롯이 채워졌는지/비었는지 판단
+    private static final class RingBuffer {
+        private final int mask;
+        //slots 읽기/쓰기는 sequences의 volatile 쓰기/읽기 전후에만 일어나므로 일반 배열로 충분
+        private final Event[] slots;
+        private final AtomicLongArray sequences;
+        private final AtomicLong tail = new AtomicLong();
+        //writer 스레드만 변경, size() 조회를 위해 volatile
+        private volatile long head;
+
+        private RingBuffer(int requestedCapacity) {
+            //인덱스 계산을 나머지 대신 비트 연산으로 하기 위해 2의 거듭제곱으로 올림
+            int capacity = Integer.highestOneBit(Math.max(2, requestedCapacity) - 1) << 1;
+            this.mask = capacity - 1;
+            this.slots = new Event[capacity];
+            this.sequences = new AtomicLongArray(capacity);
+            for (int i = 0; i < capacity; i++) {
+                sequences.set(i, i);
+            }
+        }
+
+        //넣은 위치를 리턴, 가득 찼으면 -1
+        long offer(Event event) {
+            long position = tail.get();
+            while (true) {
+                int index = (int) (position & mask);
+                long difference = sequences.get(index) - position;
+                if (difference == 0) {
+                    if (tail.compareAndSet(position, position + 1)) {
+                        slots[index] = event;
+                        sequences.set(index, position + 1);
+                        return position;
+                    }
+                    position = tail.get();
+                } else if (difference < 0) {
+                    //한 바퀴 전의 이벤트를 writer가 아직 꺼내지 않음
+                    return -1;
+                } else {
+                    position = tail.get();
+                }
+            }
+        }
+
+        //writer 스레드에서만 호출, 비어 있거나 다음 슬롯이 아직 채워지는 중이면 null
+        Event poll() {
+            long position = head;
+            int index = (int) (position & mask);
+            if (sequences.get(index) != position + 1) {
+                return null;
+            }
+            Event event = slots[index];
+            slots[index] = null;
+            sequences.set(index, position + mask + 1);
+            head = position + 1;
+            return event;
+        }
+
+        int size() {
+            return (int) Math.max(0, tail.get() - head);
+        }
+    }
+}
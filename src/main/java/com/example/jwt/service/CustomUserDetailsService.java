@@ -1,48 +1,52 @@
 package com.example.jwt.service;
 
-import com.example.jwt.entity.User;
-import com.example.jwt.repository.UserRepository;
-import org.springframework.security.core.GrantedAuthority;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import com.example.jwt.jfr.UserLookupEvent;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
-
-import java.util.List;
-import java.util.stream.Collectors;
 
 
 @Component("userDetailsService")
 public class CustomUserDetailsService implements UserDetailsService {
-    private final UserRepository userRepository;
+    private final UserCache userCache;
 
-    public CustomUserDetailsService(UserRepository userRepository) {
-        this.userRepository = userRepository;
+    public CustomUserDetailsService(UserCache userCache) {
+        this.userCache = userCache;
     }
 
     //토큰 발급 시 호출되는 메서드 from /Authenticate
+    //UserCache에서 먼저 찾고 없을 때만 DB 조회 (캐시 적중 시 트랜잭션/커넥션을 사용하지 않도록 @Transactional 제거)
+    //JFR 기록 중에는 조회 시간과 결과를 UserLookupEvent 로 남김
     @Override
-    @Transactional
     public UserDetails loadUserByUsername(final String username) {
-        //유저 정보와 권한 정보를 리턴
-        return userRepository.findOneWithAuthoritiesByUsername(username)
-                .map(users -> createUser(username, users))
-                .orElseThrow(() -> new UsernameNotFoundException(username + " -> 데이터베이스에서 찾을 수 없습니다."));
+        UserLookupEvent event = new UserLookupEvent();
+        event.begin();
+        String outcome = "not_found";
+        try {
+            //유저 정보와 권한 정보를 리턴
+            UserCache.Snapshot user = userCache.get(username)
+                    .orElseThrow(() -> new UsernameNotFoundException(username + " -> 데이터베이스에서 찾을 수 없습니다."));
+            outcome = user.isActivated() ? "found" : "inactive";
+            return createUser(username, user);
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.outcome = outcome;
+                event.commit();
+            }
+        }
     }
 
 
     //해당하는 User의 데이터가 존재한다면 UserDetails 객체로 만들어서 리턴
-    private org.springframework.security.core.userdetails.User createUser(String username, User user) {
+    //인증 후 비밀번호가 지워지므로(eraseCredentials) UserDetails는 캐시하지 않고 매번 새로 만듦
+    private org.springframework.security.core.userdetails.User createUser(String username, UserCache.Snapshot user) {
         if (!user.isActivated()) {
             throw new RuntimeException(username + " -> 활성화되어 있지 않습니다.");
         }
-        List<GrantedAuthority> grantedAuthorities = user.getAuthorities().stream()
-                .map(authority -> new SimpleGrantedAuthority(authority.getAuthorityName()))
-                .collect(Collectors.toList());
         return new org.springframework.security.core.userdetails.User(user.getUsername(),
                 user.getPassword(),
-                grantedAuthorities);
+                user.getAuthorities());
     }
 }
\ No newline at end of file
@@ -0,0 +1,215 @@
+package com.example.jwt.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+* @package : com.example.jwt.service
+* @name : LoginAttemptGuard.java
+* @date : 2026-10-18 오후 9:10
+* @author : hj
+* @Description: username, IP 별 로그인 실패 횟수를 세고, 기준을 넘으면 일정 시간 로그인을 막는 클래스
+**/
+//막힌 요청은 BCrypt 검증(PasswordEncoder)을 하지 않고 바로 429로 응답하므로 대입 공격에 CPU를 쓰지 않음
+//실패 횟수는 고정 길이 구간(window)마다 새로 세며, 직전 구간의 횟수를 남은 비율만큼 더해 구간 경계에서 갑자기 0이 되지 않게 함
+//카운터 증가는 LongAdder로 락 없이 수행하고, 구간이 바뀔 때만 엔트리 단위로 잠금 (ConcurrentHashMap은 내부적으로 분할되어 있음)
+//username 기준 잠금은 다른 사람이 일부러 실패시켜 계정을 잠글 수 있으므로 잠금 시간은 짧게 유지하는 것을 권장
+//허용/차단 횟수는 /actuator/metrics/auth.login.attempts (result=allowed|blocked) 로 확인
+@Component
+public class LoginAttemptGuard {
+
+    private static final Logger logger = LoggerFactory.getLogger(LoginAttemptGuard.class);
+
+    private static final String METRIC_NAME = "auth.login.attempts";
+
+    private final ConcurrentMap<String, FailureCounter> usernameFailures = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, FailureCounter> ipFailures = new ConcurrentHashMap<>();
+
+    private final long windowMillis;
+    private final long lockoutMillis;
+    private final int maxUsernameFailures;
+    private final int maxIpFailures;
+    private final int maxTrackedKeys;
+
+    private final Counter allowedCounter;
+    private final Counter blockedByUsernameCounter;
+    private final Counter blockedByIpCounter;
+
+    public LoginAttemptGuard(
+            @Value("${auth.login-guard.window-seconds:300}") long windowSeconds,
+            @Value("${auth.login-guard.lockout-seconds:300}") long lockoutSeconds,
+            @Value("${auth.login-guard.max-username-failures:5}") int maxUsernameFailures,
+            @Value("${auth.login-guard.max-ip-failures:50}") int maxIpFailures,
+            @Value("${auth.login-guard.max-tracked-keys:100000}") int maxTrackedKeys,
+            MeterRegistry meterRegistry) {
+        this.windowMillis = TimeUnit.SECONDS.toMillis(windowSeconds);
+        this.lockoutMillis = TimeUnit.SECONDS.toMillis(lockoutSeconds);
+        this.maxUsernameFailures = maxUsernameFailures;
+        this.maxIpFailures = maxIpFailures;
+        this.maxTrackedKeys = maxTrackedKeys;
+
+        this.allowedCounter = Counter.builder(METRIC_NAME)
+                .tag("result", "allowed")
+                .description("실패 횟수 제한을 통과한 로그인 시도 수")
+                .register(meterRegistry);
+        this.blockedByUsernameCounter = Counter.builder(METRIC_NAME)
+                .tag("result", "blocked").tag("reason", "username")
+                .description("username 잠금으로 거절된 로그인 시도 수")
+                .register(meterRegistry);
+        this.blockedByIpCounter = Counter.builder(METRIC_NAME)
+                .tag("result", "blocked").tag("reason", "ip")
+                .description("IP 잠금으로 거절된 로그인 시도 수")
+                .register(meterRegistry);
+        Gauge.builder("auth.login.guard.tracked", this, guard -> guard.usernameFailures.size() + guard.ipFailures.size())
+                .description("실패 횟수를 추적 중인 username + IP 수")
+                .register(meterRegistry);
+    }
+
+    /**
+    * @methodName : checkBlocked
+    * @date : 2026-10-18 오후 9:10
+    * @author : hj
+    * @Description: 로그인을 시도해도 되는지 확인, 막혀 있으면 남은 잠금 시간(초), 아니면 0을 리턴
+    **/
+    public long checkBlocked(String username, String ip) {
+        long now = System.currentTimeMillis();
+        long ipRemaining = remainingLockout(ipFailures.get(ip), now);
+        if (ipRemaining > 0) {
+            blockedByIpCounter.increment();
+            return toRetryAfterSeconds(ipRemaining);
+        }
+        long usernameRemaining = remainingLockout(usernameFailures.get(normalize(username)), now);
+        if (usernameRemaining > 0) {
+            blockedByUsernameCounter.increment();
+            return toRetryAfterSeconds(usernameRemaining);
+        }
+        allowedCounter.increment();
+        return 0;
+    }
+
+    /**
+    * @methodName : recordFailure
+    * @date : 2026-10-18 오후 9:10
+    * @author : hj
+    * @Description: 로그인 실패를 기록하고, 기준을 넘으면 username 또는 IP를 잠금
+    **/
+    public void recordFailure(String username, String ip) {
+        long now = System.currentTimeMillis();
+        if (record(ipFailures, ip, now, maxIpFailures)) {
+            logger.warn("로그인 실패가 많아 IP를 잠급니다. ip: {}", ip);
+        }
+        if (record(usernameFailures, normalize(username), now, maxUsernameFailures)) {
+            logger.warn("로그인 실패가 많아 계정을 잠급니다. username: {}", username);
+        }
+    }
+
+    /**
+    * @methodName : recordSuccess
+    * @date : 2026-10-18 오후 9:10
+    * @author : hj
+    * @Description: 로그인 성공 시 username의 실패 기록 삭제 (IP 기록은 유지)
+    **/
+    public void recordSuccess(String username) {
+        usernameFailures.remove(normalize(username));
+    }
+
+    /**
+    * @methodName : prune
+    * @date : 2026-10-18 오후 9:10
+    * @author : hj
+    * @Description: 잠금이 끝났고 두 구간 이상 실패가 없던 엔트리를 삭제
+    **/
+    @Scheduled(fixedDelayString = "${auth.login-guard.prune-interval-ms:60000}")
+    public void prune() {
+        long now = System.currentTimeMillis();
+        usernameFailures.values().removeIf(counter -> counter.isIdle(now, windowMillis));
+        ipFailures.values().removeIf(counter -> counter.isIdle(now, windowMillis));
+    }
+
+    //잠금 기준에 도달했으면 true
+    private boolean record(ConcurrentMap<String, FailureCounter> failures, String key, long now, int maxFailures) {
+        FailureCounter counter = failures.get(key);
+        if (counter == null) {
+            //무작위 username 공격으로 맵이 계속 커지지 않도록 추적 수를 제한 (IP 잠금은 계속 동작)
+            if (failures.size() >= maxTrackedKeys) {
+                return false;
+            }
+            counter = failures.computeIfAbsent(key, ignored -> new FailureCounter(now));
+        }
+        long failureCount = counter.increment(now, windowMillis);
+        if (failureCount >= maxFailures && counter.lockedUntil <= now) {
+            counter.lockedUntil = now + lockoutMillis;
+            return true;
+        }
+        return false;
+    }
+
+    private static long remainingLockout(FailureCounter counter, long now) {
+        return counter == null ? 0 : counter.lockedUntil - now;
+    }
+
+    private static long toRetryAfterSeconds(long remainingMillis) {
+        return Math.max(1, TimeUnit.MILLISECONDS.toSeconds(remainingMillis + 999));
+    }
+
+    private static String normalize(String username) {
+        return username == null ? "" : username.toLowerCase(Locale.ROOT);
+    }
+
+    //한 username 또는 IP의 실패 횟수 (현재 구간 + 직전 구간)
+    private static final class FailureCounter {
+        private final LongAdder current = new LongAdder();
+        private volatile long windowStart;
+        private volatile long previous;
+        private volatile long lockedUntil;
+        private volatile long lastFailure;
+
+        private FailureCounter(long now) {
+            this.windowStart = now;
+            this.lastFailure = now;
+        }
+
+        //실패 1회를 더하고 직전 구간을 반영한 추정 실패 횟수를 리턴
+        long increment(long now, long windowMillis) {
+            roll(now, windowMillis);
+            current.increment();
+            lastFailure = now;
+
+            long elapsed = now - windowStart;
+            long previousWeight = previous * (windowMillis - elapsed) / windowMillis;
+            return current.sum() + previousWeight;
+        }
+
+        //구간이 지났을 때만 잠그고 새 구간으로 넘김, 두 구간 이상 지났으면 직전 구간 횟수도 버림
+        private void roll(long now, long windowMillis) {
+            if (now - windowStart < windowMillis) {
+                return;
+            }
+            synchronized (this) {
+                long elapsed = now - windowStart;
+                if (elapsed < windowMillis) {
+                    return;
+                }
+                long count = current.sumThenReset();
+                previous = elapsed < windowMillis * 2 ? count : 0;
+                windowStart = now - elapsed % windowMillis;
+            }
+        }
+
+        boolean isIdle(long now, long windowMillis) {
+            return lockedUntil <= now && now - lastFailure >= windowMillis * 2;
+        }
+    }
+}
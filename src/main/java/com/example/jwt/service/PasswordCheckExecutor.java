@@ -0,0 +1,78 @@
+package com.example.jwt.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Collections;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
+
+/**
+* @package : com.example.jwt.service
+* @name : PasswordCheckExecutor.java
+* @date : 2026-10-18 오후 2:05
+* @author : hj
+* @Description: BCrypt 비밀번호 검증을 Tomcat 요청 스레드가 아닌 전용 스레드풀에서 수행하는 클래스
+**/
+//로그인이 몰리면 모든 요청 스레드가 BCrypt에 묶여 다른 API까지 응답하지 못하는 문제를 막기 위해 사용
+//스레드 수와 대기열 크기를 제한하고, 대기열이 가득 차면 바로 RejectedExecutionException을 던져 호출 측에서 503으로 응답
+//대기열 길이, 대기 시간(executor.idle), 실행 시간(executor), 거절 횟수는 /actuator/metrics 로 확인
+@Component
+public class PasswordCheckExecutor implements DisposableBean {
+
+    private static final String METRIC_PREFIX = "auth.password.check";
+
+    private final ThreadPoolExecutor threadPoolExecutor;
+    private final ExecutorService executorService;
+    private final Counter rejectedCounter;
+    private final long retryAfterSeconds;
+
+    public PasswordCheckExecutor(
+            @Value("${auth.password-check.pool-size:0}") int poolSize,
+            @Value("${auth.password-check.queue-capacity:64}") int queueCapacity,
+            @Value("${auth.password-check.retry-after-seconds:1}") long retryAfterSeconds,
+            MeterRegistry meterRegistry) {
+        //pool-size가 0이면 CPU 코어 수만큼 사용 (BCrypt는 CPU 작업이므로 코어 수 이상은 의미 없음)
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        this.threadPoolExecutor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-check-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executorService = ExecutorServiceMetrics.monitor(meterRegistry, threadPoolExecutor, METRIC_PREFIX, Collections.emptyList());
+        this.rejectedCounter = Counter.builder(METRIC_PREFIX + ".rejected")
+                .description("대기열이 가득 차 거절된 비밀번호 검증 요청 수")
+                .register(meterRegistry);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    /**
+    * @methodName : submit
+    * @date : 2026-10-18 오후 2:05
+    * @author : hj
+    * @Description: 비밀번호 검증 작업을 전용 스레드풀에 제출
+    **/
+    //대기열이 가득 찬 경우 RejectedExecutionException 발생
+    public <T> CompletableFuture<T> submit(Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executorService);
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw e;
+        }
+    }
+
+    //503 응답의 Retry-After 헤더 값
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+
+    @Override
+    public void destroy() {
+        threadPoolExecutor.shutdown();
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.jwt.service;
+
+import com.example.jwt.entity.User;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+* @package : com.example.jwt.service
+* @name : PasswordRehashService.java
+* @date : 2026-10-18 오후 11:30
+* @author : hj
+* @Description: 로그인에 성공한 유저의 비밀번호 해시가 이전 방식(알고리즘 id 없음, 낮은 cost 등)이면 새 방식으로 다시 해시하여 저장하는 클래스
+**/
+//로그인 응답을 늦추지 않도록 해시/저장은 전용 스레드 하나에서 비동기로 수행, 대기열이 가득 차면 이번 로그인에서는 건너뜀 (다음 로그인에서 다시 시도)
+//같은 유저의 재해시가 이미 대기 중이면 중복으로 넣지 않음
+//저장은 기존 해시가 그대로일 때만 수행하므로 그 사이 비밀번호가 변경되었으면 덮어쓰지 않음
+//처리 건수는 /actuator/metrics/auth.password.rehash (result=upgraded|skipped|dropped|failed) 로 확인
+@Component
+public class PasswordRehashService implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(PasswordRehashService.class);
+
+    private static final String METRIC_NAME = "auth.password.rehash";
+    private static final String UPDATE_PASSWORD = "update users set password = ? where username = ? and password = ?";
+    private static final String SELECT_USER_ID = "select user_id from users where username = ?";
+
+    private final PasswordEncoder passwordEncoder;
+    private final JdbcTemplate jdbcTemplate;
+    private final UserCache userCache;
+    private final EntityManagerFactory entityManagerFactory;
+    private final boolean enabled;
+    private final ThreadPoolExecutor executor;
+    //재해시가 대기 중이거나 진행 중인 username
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+
+    private final Counter upgradedCounter;
+    private final Counter skippedCounter;
+    private final Counter droppedCounter;
+    private final Counter failedCounter;
+
+    public PasswordRehashService(
+            PasswordEncoder passwordEncoder,
+            JdbcTemplate jdbcTemplate,
+            UserCache userCache,
+            EntityManagerFactory entityManagerFactory,
+            @Value("${auth.password-hash.rehash.enabled:true}") boolean enabled,
+            @Value("${auth.password-hash.rehash.queue-capacity:256}") int queueCapacity,
+            MeterRegistry meterRegistry) {
+        this.passwordEncoder = passwordEncoder;
+        this.jdbcTemplate = jdbcTemplate;
+        this.userCache = userCache;
+        this.entityManagerFactory = entityManagerFactory;
+        this.enabled = enabled;
+        this.executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-rehash-"),
+                new ThreadPoolExecutor.AbortPolicy());
+
+        this.upgradedCounter = counter(meterRegistry, "upgraded", "새 방식으로 다시 해시하여 저장한 수");
+        this.skippedCounter = counter(meterRegistry, "skipped", "저장 전에 비밀번호가 변경되어 건너뛴 수");
+        this.droppedCounter = counter(meterRegistry, "dropped", "대기열이 가득 차 이번 로그인에서 건너뛴 수");
+        this.failedCounter = counter(meterRegistry, "failed", "DB 저장에 실패한 수");
+    }
+
+    /**
+    * @methodName : rehashIfNeeded
+    * @date : 2026-10-18 오후 11:30
+    * @author : hj
+    * @Description: 로그인에 성공한 유저의 해시가 오래된 방식이면 재해시 작업을 등록
+    **/
+    //인증 직후에 호출되므로 유저 정보는 UserCache에 있음 (DB 조회 없음)
+    public void rehashIfNeeded(String username, Object rawPassword) {
+        if (!enabled || !(rawPassword instanceof CharSequence)) {
+            return;
+        }
+        UserCache.Snapshot user = userCache.get(username).orElse(null);
+        if (user == null || !passwordEncoder.upgradeEncoding(user.getPassword())) {
+            return;
+        }
+        if (!pending.add(username)) {
+            return;
+        }
+        String currentHash = user.getPassword();
+        CharSequence password = (CharSequence) rawPassword;
+        try {
+            executor.execute(() -> rehash(username, password, currentHash));
+        } catch (RejectedExecutionException e) {
+            pending.remove(username);
+            droppedCounter.increment();
+        }
+    }
+
+    private void rehash(String username, CharSequence rawPassword, String currentHash) {
+        try {
+            String newHash = passwordEncoder.encode(rawPassword);
+            int updated = jdbcTemplate.update(UPDATE_PASSWORD, newHash, username, currentHash);
+            if (updated == 0) {
+                skippedCounter.increment();
+                return;
+            }
+            //JDBC로 직접 수정하므로 엔티티 리스너 대신 직접 캐시 삭제 (UserCache, Hibernate 2차 캐시의 User 엔티티)
+            userCache.invalidate(username);
+            evictUserEntity(username);
+            upgradedCounter.increment();
+            logger.debug("비밀번호 해시를 새 방식으로 변경했습니다. username: {}", username);
+        } catch (DataAccessException e) {
+            failedCounter.increment();
+            logger.warn("비밀번호 해시를 변경하지 못했습니다. username: {}", username, e);
+        } finally {
+            pending.remove(username);
+        }
+    }
+
+    private void evictUserEntity(String username) {
+        List<Long> userIds = jdbcTemplate.queryForList(SELECT_USER_ID, Long.class, username);
+        userIds.forEach(userId -> entityManagerFactory.getCache().evict(User.class, userId));
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String result, String description) {
+        return Counter.builder(METRIC_NAME)
+                .tag("result", result)
+                .description(description)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
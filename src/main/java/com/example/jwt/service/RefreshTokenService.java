@@ -0,0 +1,252 @@
+package com.example.jwt.service;
+
+import com.example.jwt.entity.RefreshToken;
+import com.example.jwt.repository.RefreshTokenRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.core.AuthenticationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+* @package : com.example.jwt.service
+* @name : RefreshTokenService.java
+* @date : 2026-10-18 오후 3:02
+* @author : hj
+* @Description: refresh token 발급, 재발급(rotation), 재사용 감지, 만료 토큰 정리를 담당하는 클래스
+**/
+//refresh token은 JWT가 아닌 랜덤 문자열이며, DB에는 SHA-256 해시만 저장
+//조회는 메모리 캐시를 먼저 확인하고 없을 때만 DB를 조회 (다른 서버에서 발급됐거나 재시작됐거나 캐시에서 밀려난 경우)
+//사용 처리는 항상 DB의 조건부 update로 수행하므로 여러 서버가 같은 토큰을 동시에 사용해도 한 번만 성공함
+@Service
+public class RefreshTokenService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RefreshTokenService.class);
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final long refreshTokenValidityInMilliseconds;
+    private final int cleanupBatchSize;
+    //만료 토큰 삭제 batch 마다 따로 커밋하기 위한 트랜잭션
+    private final TransactionTemplate transactionTemplate;
+
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    //token_hash -> 토큰 정보, DB 앞단의 조회용 캐시 (DB가 원본이므로 최대 크기를 넘거나 유효 시간이 지나면 제거)
+    private final Cache<String, Entry> entries;
+
+    public RefreshTokenService(
+            RefreshTokenRepository refreshTokenRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${jwt.refresh-token.validity-in-seconds}") long refreshTokenValidityInSeconds,
+            @Value("${jwt.refresh-token.cleanup-batch-size:1000}") int cleanupBatchSize,
+            @Value("${jwt.refresh-token.cache-maximum-size:100000}") long cacheMaximumSize) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.refreshTokenValidityInMilliseconds = refreshTokenValidityInSeconds * 1000;
+        this.cleanupBatchSize = cleanupBatchSize;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.entries = Caffeine.newBuilder()
+                .maximumSize(cacheMaximumSize)
+                .expireAfterWrite(Duration.ofSeconds(refreshTokenValidityInSeconds))
+                .build();
+    }
+
+    /**
+    * @methodName : issue
+    * @date : 2026-10-18 오후 3:02
+    * @author : hj
+    * @Description: 로그인 시 새로운 계열(family)의 refresh token 발급
+    **/
+    @Transactional
+    public String issue(String username) {
+        return issue(username, UUID.randomUUID().toString());
+    }
+
+    /**
+    * @methodName : rotate
+    * @date : 2026-10-18 오후 3:02
+    * @author : hj
+    * @Description: refresh token을 사용 처리하고 같은 계열의 새 refresh token 발급
+    **/
+    //이미 사용된 토큰이 다시 들어오면 탈취로 간주하여 같은 계열의 토큰을 모두 폐기
+    //폐기는 예외가 발생해도 반영되어야 하므로 AuthenticationException은 롤백하지 않음
+    @Transactional(noRollbackFor = AuthenticationException.class)
+    public Rotation rotate(String refreshToken) {
+        String tokenHash = hash(refreshToken);
+        Entry entry = find(tokenHash);
+
+        if (entry == null || entry.expiresAt < System.currentTimeMillis()) {
+            throw new BadCredentialsException("유효하지 않은 refresh token 입니다.");
+        }
+
+        if (entry.used || refreshTokenRepository.markUsed(tokenHash) == 0) {
+            logger.warn("재사용된 refresh token 입니다. 계열 전체를 폐기합니다. username: {}", entry.username);
+            revokeFamily(entry.familyId);
+            throw new BadCredentialsException("이미 사용된 refresh token 입니다.");
+        }
+        entries.put(tokenHash, entry.markUsed());
+
+        return new Rotation(entry.username, issue(entry.username, entry.familyId));
+    }
+
+    /**
+    * @methodName : revoke
+    * @date : 2026-10-18 오후 4:10
+    * @author : hj
+    * @Description: 로그아웃 시 refresh token과 같은 계열의 토큰을 모두 폐기
+    **/
+    //로그아웃한 유저의 토큰만 폐기, 다른 유저의 refresh token이면 무시 (다른 유저의 로그인을 끊을 수 없도록)
+    @Transactional
+    public void revoke(String refreshToken, String username) {
+        Entry entry = find(hash(refreshToken));
+        if (entry == null) {
+            return;
+        }
+        if (!entry.username.equals(username)) {
+            logger.warn("다른 유저의 refresh token으로 로그아웃을 시도했습니다. username: {}", username);
+            return;
+        }
+        revokeFamily(entry.familyId);
+    }
+
+    /**
+    * @methodName : revokeAllForUser
+    * @date : 2026-10-18 오후 4:10
+    * @author : hj
+    * @Description: 해당 유저의 refresh token을 모두 폐기
+    **/
+    @Transactional
+    public void revokeAllForUser(String username) {
+        entries.asMap().values().removeIf(entry -> entry.username.equals(username));
+        refreshTokenRepository.deleteByUsername(username);
+    }
+
+    /**
+    * @methodName : removeExpiredTokens
+    * @date : 2026-10-18 오후 3:02
+    * @author : hj
+    * @Description: 만료된 refresh token을 DB에서 일괄 삭제
+    **/
+    //batch 마다 따로 커밋하여 삭제 중에 큰 트랜잭션/락을 잡지 않음 (메모리 캐시는 expireAfterWrite 로 제거됨)
+    @Scheduled(fixedDelayString = "${jwt.refresh-token.cleanup-interval-ms:600000}")
+    public void removeExpiredTokens() {
+        long now = System.currentTimeMillis();
+
+        int deleted = 0;
+        int count;
+        do {
+            Integer batch = transactionTemplate.execute(status -> refreshTokenRepository.deleteExpired(now, cleanupBatchSize));
+            count = batch != null ? batch : 0;
+            deleted += count;
+        } while (count == cleanupBatchSize);
+        logger.debug("만료된 refresh token {}건을 삭제했습니다.", deleted);
+    }
+
+    private String issue(String username, String familyId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String refreshToken = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        RefreshToken entity = RefreshToken.builder()
+                .tokenHash(hash(refreshToken))
+                .username(username)
+                .familyId(familyId)
+                .expiresAt(System.currentTimeMillis() + refreshTokenValidityInMilliseconds)
+                .used(false)
+                .build();
+        refreshTokenRepository.save(entity);
+        entries.put(entity.getTokenHash(), Entry.of(entity));
+        return refreshToken;
+    }
+
+    private Entry find(String tokenHash) {
+        Entry entry = entries.getIfPresent(tokenHash);
+        if (entry != null) {
+            return entry;
+        }
+        return refreshTokenRepository.findById(tokenHash)
+                .map(Entry::of)
+                .map(loaded -> {
+                    entries.asMap().putIfAbsent(tokenHash, loaded);
+                    return loaded;
+                })
+                .orElse(null);
+    }
+
+    private void revokeFamily(String familyId) {
+        entries.asMap().values().removeIf(entry -> entry.familyId.equals(familyId));
+        refreshTokenRepository.deleteByFamilyId(familyId);
+    }
+
+    private static String hash(String refreshToken) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(refreshToken.getBytes(StandardCharsets.US_ASCII));
+            StringBuilder hex = new StringBuilder(digest.length * 2);
+            for (byte b : digest) {
+                hex.append(Character.forDigit((b >> 4) & 0xF, 16)).append(Character.forDigit(b & 0xF, 16));
+            }
+            return hex.toString();
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    //재발급 결과 (토큰 주인, 새로 발급된 refresh token)
+    public static final class Rotation {
+        private final String username;
+        private final String refreshToken;
+
+        private Rotation(String username, String refreshToken) {
+            this.username = username;
+            this.refreshToken = refreshToken;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public String getRefreshToken() {
+            return refreshToken;
+        }
+    }
+
+    //메모리 캐시에 보관하는 불변 스냅샷 (엔티티를 그대로 들고 있지 않음)
+    private static final class Entry {
+        private final String username;
+        private final String familyId;
+        private final long expiresAt;
+        private final boolean used;
+
+        private Entry(String username, String familyId, long expiresAt, boolean used) {
+            this.username = username;
+            this.familyId = familyId;
+            this.expiresAt = expiresAt;
+            this.used = used;
+        }
+
+        static Entry of(RefreshToken refreshToken) {
+            return new Entry(refreshToken.getUsername(), refreshToken.getFamilyId(),
+                    refreshToken.getExpiresAt(), refreshToken.isUsed());
+        }
+
+        Entry markUsed() {
+            return new Entry(username, familyId, expiresAt, true);
+        }
+    }
+}
@@ -0,0 +1,292 @@
+package com.example.jwt.service;
+
+import com.example.jwt.dto.UserInfoDto;
+import com.example.jwt.repository.UserAuthorityRow;
+import com.example.jwt.repository.UserRepository;
+import com.example.jwt.utils.AuthorityRegistry;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+* @package : com.example.jwt.service
+* @name : UserCache.java
+* @date : 2026-10-18 오후 5:40
+* @author : hj
+* @Description: username -> 유저 정보(비밀번호 해시, 활성화 여부, 권한) 스냅샷을 보관하는 캐시
+**/
+//로그인(/api/authenticate), 재발급, /api/user 호출마다 users, user_authority, authority 조인 쿼리가 실행되는 것을 줄이기 위해 사용
+//캐시에 없을 때는 엔티티가 아닌 UserAuthorityRow 조회 전용 쿼리로 가져옴
+//엔티티가 아닌 불변 스냅샷을 보관하므로 여러 스레드가 같은 엔트리를 동시에 사용해도 안전함
+//최대 크기와 TTL로 제한되며, 유저가 저장/수정/삭제되면 User 엔티티 리스너(UserCacheListener)가 해당 엔트리를 삭제
+//캐시에 없는 같은 username을 여러 스레드가 동시에 조회하면 DB 조회는 한 번만 하고 나머지는 그 결과를 기다림 (single-flight)
+//유저별 프로필 버전을 메모리에 보관하며 변경될 때마다 증가, 토큰의 pver 클레임과 비교해 오래된 프로필 클레임을 걸러냄
+//권한만 추가/삭제된 경우도 User의 @Version 으로 UPDATE가 실행되므로 버전이 증가하고, 변경 전 토큰의 권한 클레임은 응답에 쓰이지 않음
+//프로필 버전은 이 서버에서 JPA로 변경한 것만 반영하므로 서버 한 대 구성에서만 사용 (jwt.profile-claim.enabled)
+//(다른 서버에서 변경하면 이 서버의 버전은 그대로라 토큰이 만료될 때까지 이전 nickname/권한이 응답됨)
+//적중률은 /actuator/metrics/cache.gets (cache=users), 동시 조회 수와 합쳐진 조회 수는 user.lookup.* 로 확인
+//조회 시간은 /actuator/metrics/user.lookup (source=cache|db|coalesced) 로 확인
+@Component
+public class UserCache {
+
+    private static final String CACHE_NAME = "users";
+
+    private final UserRepository userRepository;
+    private final Cache<String, Snapshot> cache;
+
+    //username -> 진행 중인 DB 조회, 조회가 끝나면 삭제
+    private final ConcurrentMap<String, CompletableFuture<Snapshot>> inFlight = new ConcurrentHashMap<>();
+    private final Counter loadCounter;
+
+    //username -> 프로필 버전 (변경된 적 있는 유저만), 최대 크기는 유저 캐시와 같음
+    private final Cache<String, Long> profileVersions;
+    //목록에 없는 유저의 버전, 처음에는 서버 시작 시각
+    //(재시작 전에 발급된 토큰의 pver는 현재 버전과 맞지 않으므로 오래된 프로필이 그대로 쓰이지 않음)
+    //목록에서 밀려난 유저의 버전 이상으로 올려서, 밀려난 유저의 변경 전 토큰이 다시 맞는 버전이 되지 않도록 함
+    //(목록에 없는 다른 유저들의 토큰도 버전이 맞지 않게 되지만 UserCache 조회로 처리될 뿐 잘못된 응답은 없음)
+    private final AtomicLong baseProfileVersion = new AtomicLong(System.currentTimeMillis());
+    private final Counter coalescedCounter;
+
+    private final Timer cacheLookupTimer;
+    private final Timer dbLookupTimer;
+    private final Timer coalescedLookupTimer;
+
+    public UserCache(
+            UserRepository userRepository,
+            @Value("${auth.user-cache.maximum-size:10000}") long maximumSize,
+            @Value("${auth.user-cache.expire-after-write-seconds:300}") long expireAfterWriteSeconds,
+            MeterRegistry meterRegistry) {
+        this.userRepository = userRepository;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(Duration.ofSeconds(expireAfterWriteSeconds))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        //evictionListener는 엔트리를 제거하는 동작 안에서 실행되므로 제거된 뒤에는 항상 올라간 기준 버전이 보임
+        this.profileVersions = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .<String, Long>evictionListener((username, version, cause) ->
+                        baseProfileVersion.accumulateAndGet(version, Math::max))
+                .build();
+
+        this.loadCounter = Counter.builder("user.lookup.loads")
+                .description("캐시에 없어 DB에서 유저를 조회한 횟수")
+                .register(meterRegistry);
+        this.coalescedCounter = Counter.builder("user.lookup.coalesced")
+                .description("이미 진행 중인 같은 username 조회의 결과를 함께 사용한 횟수")
+                .register(meterRegistry);
+        Gauge.builder("user.lookup.in-flight", inFlight, ConcurrentMap::size)
+                .description("현재 진행 중인 DB 유저 조회 수")
+                .register(meterRegistry);
+        this.cacheLookupTimer = lookupTimer(meterRegistry, "cache");
+        this.dbLookupTimer = lookupTimer(meterRegistry, "db");
+        this.coalescedLookupTimer = lookupTimer(meterRegistry, "coalesced");
+    }
+
+    private static Timer lookupTimer(MeterRegistry meterRegistry, String source) {
+        return Timer.builder("user.lookup")
+                .tag("source", source)
+                .description("username으로 유저 정보를 조회하는 시간")
+                .register(meterRegistry);
+    }
+
+    /**
+    * @methodName : get
+    * @date : 2026-10-18 오후 5:40
+    * @author : hj
+    * @Description: username에 해당하는 유저 스냅샷을 리턴, 캐시에 없으면 DB에서 조회하여 저장
+    **/
+    //없는 유저는 캐시하지 않음 (회원가입 직후 바로 조회될 수 있도록)
+    public Optional<Snapshot> get(String username) {
+        long start = System.nanoTime();
+        Snapshot cached = cache.getIfPresent(username);
+        if (cached != null) {
+            cacheLookupTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return Optional.of(cached);
+        }
+
+        CompletableFuture<Snapshot> created = new CompletableFuture<>();
+        CompletableFuture<Snapshot> running = inFlight.putIfAbsent(username, created);
+        if (running != null) {
+            //같은 username을 조회 중인 스레드가 있으면 그 결과를 기다림
+            coalescedCounter.increment();
+            try {
+                return Optional.ofNullable(join(running));
+            } finally {
+                coalescedLookupTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            }
+        }
+        try {
+            return Optional.ofNullable(load(username, created));
+        } finally {
+            dbLookupTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    /**
+    * @methodName : invalidate
+    * @date : 2026-10-18 오후 5:40
+    * @author : hj
+    * @Description: 유저 정보가 변경되었을 때 해당 유저의 캐시를 삭제
+    **/
+    //트랜잭션 안에서 호출되면 커밋 이후에도 한 번 더 삭제
+    //(커밋 전에 다른 스레드가 변경 전 데이터를 다시 캐시하는 경우를 막기 위함)
+    public void invalidate(String username) {
+        //진행 중인 조회는 변경 전 데이터일 수 있으므로 결과를 캐시하지 않도록 함께 제거
+        inFlight.remove(username);
+        cache.invalidate(username);
+        increaseProfileVersion(username);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    inFlight.remove(username);
+                    cache.invalidate(username);
+                    increaseProfileVersion(username);
+                }
+            });
+        }
+    }
+
+    /**
+    * @methodName : getProfileVersion
+    * @date : 2026-10-18 오후 6:20
+    * @author : hj
+    * @Description: 유저의 현재 프로필 버전을 리턴
+    **/
+    public long getProfileVersion(String username) {
+        Long version = profileVersions.getIfPresent(username);
+        return version != null ? version : baseProfileVersion.get();
+    }
+
+    //목록에 없던 유저는 기준 버전보다 크게 시작 (변경 전 토큰의 pver는 그 당시 기준 버전 이하)
+    private void increaseProfileVersion(String username) {
+        profileVersions.asMap().compute(username, (key, current) ->
+                Math.max(current != null ? current : 0L, baseProfileVersion.get()) + 1);
+    }
+
+    //조회를 시작한 스레드에서 DB를 조회하고, 기다리는 스레드에게 결과(또는 예외)를 전달
+    //Error(OOM, LinkageError 등)도 전달해야 하므로 Throwable로 받음 (완료되지 않은 future가 남으면 같은 username 조회가 모두 멈춤)
+    private Snapshot load(String username, CompletableFuture<Snapshot> future) {
+        Snapshot snapshot;
+        try {
+            loadCounter.increment();
+            List<UserAuthorityRow> rows = userRepository.findAuthorityRowsByUsername(username);
+            snapshot = rows.isEmpty() ? null : Snapshot.of(rows);
+        } catch (Throwable e) {
+            inFlight.remove(username, future);
+            future.completeExceptionally(e);
+            throw e;
+        }
+
+        //조회 중에 invalidate 되었으면 캐시하지 않음
+        if (inFlight.remove(username, future) && snapshot != null) {
+            cache.put(username, snapshot);
+        }
+        future.complete(snapshot);
+        return snapshot;
+    }
+
+    private static Snapshot join(CompletableFuture<Snapshot> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            if (e.getCause() instanceof Error) {
+                throw (Error) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    //캐시에 보관하는 유저 정보의 불변 스냅샷
+    public static final class Snapshot {
+        private final String username;
+        private final String password;
+        private final String nickname;
+        private final boolean activated;
+        private final List<String> authorityNames;
+        private final List<GrantedAuthority> authorities;
+
+        private Snapshot(List<UserAuthorityRow> rows) {
+            UserAuthorityRow user = rows.get(0);
+            this.username = user.getUsername();
+            this.password = user.getPassword();
+            this.nickname = user.getNickname();
+            this.activated = user.isActivated();
+
+            List<String> names = new ArrayList<>(rows.size());
+            List<GrantedAuthority> grantedAuthorities = new ArrayList<>(rows.size());
+            for (UserAuthorityRow row : rows) {
+                if (row.getAuthorityName() != null) {
+                    names.add(row.getAuthorityName());
+                    grantedAuthorities.add(AuthorityRegistry.of(row.getAuthorityName()));
+                }
+            }
+            this.authorityNames = Collections.unmodifiableList(names);
+            this.authorities = Collections.unmodifiableList(grantedAuthorities);
+        }
+
+        //같은 유저의 row 목록 (권한 하나당 한 row)
+        static Snapshot of(List<UserAuthorityRow> rows) {
+            return new Snapshot(rows);
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public String getNickname() {
+            return nickname;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+
+        public boolean isActivated() {
+            return activated;
+        }
+
+        public List<GrantedAuthority> getAuthorities() {
+            return authorities;
+        }
+
+        //API 응답용 DTO (매번 새로 만들므로 수정해도 캐시에 영향 없음)
+        public UserInfoDto toUserInfo() {
+            List<UserInfoDto.AuthorityDto> authorityDtos = new ArrayList<>(authorityNames.size());
+            for (String name : authorityNames) {
+                authorityDtos.add(UserInfoDto.AuthorityDto.builder().authorityName(name).build());
+            }
+            return UserInfoDto.builder()
+                    .username(username)
+                    .nickname(nickname)
+                    .authorities(authorityDtos)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.example.jwt.service;
+
+import com.example.jwt.dto.UserInfoDto;
+import com.example.jwt.dto.UserPageDto;
+import com.example.jwt.dto.UserSummaryDto;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+* @package : com.example.jwt.service
+* @name : UserExportService.java
+* @date : 2026-10-18 오후 8:05
+* @author : hj
+* @Description: 관리자용 유저 목록 조회(keyset 페이징)와 전체 유저 NDJSON 내보내기를 담당하는 클래스
+**/
+//목록은 offset 대신 "user_id > 마지막으로 받은 user_id" 조건으로 조회하므로 뒤쪽 페이지도 인덱스로 바로 찾음
+//내보내기는 user_id 순서로 정렬된 결과를 한 row씩 읽어서 바로 응답 스트림에 쓰므로 유저 수와 관계없이 메모리 사용량이 일정함
+//(권한 수만큼 row가 나오므로 user_id가 바뀔 때 이전 유저를 한 줄로 씀)
+@Service
+public class UserExportService {
+
+    //users 를 먼저 페이지 크기만큼 자른 뒤 권한을 조인 (권한 수와 관계없이 페이지당 유저 수가 일정)
+    private static final String SELECT_PAGE =
+            "select u.user_id, u.username, u.nickname, u.activated, ua.authority_name " +
+            "from (select user_id, username, nickname, activated from users where user_id > ? order by user_id limit ?) u " +
+            "left join user_authority ua on ua.user_id = u.user_id " +
+            "order by u.user_id";
+    private static final String SELECT_ALL =
+            "select u.user_id, u.username, u.nickname, u.activated, ua.authority_name " +
+            "from users u left join user_authority ua on ua.user_id = u.user_id " +
+            "order by u.user_id";
+
+    private final JdbcTemplate jdbcTemplate;
+    //내보내기 전용, fetch size를 지정해 결과를 한 번에 메모리에 올리지 않고 나눠서 가져옴
+    private final JdbcTemplate exportJdbcTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final ObjectWriter objectWriter;
+    private final int maxPageSize;
+    private final long timeoutMillis;
+
+    public UserExportService(
+            JdbcTemplate jdbcTemplate,
+            DataSource dataSource,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            @Value("${auth.user-export.fetch-size:1000}") int fetchSize,
+            @Value("${auth.user-export.max-page-size:500}") int maxPageSize,
+            @Value("${auth.user-export.timeout-seconds:1800}") long timeoutSeconds) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.exportJdbcTemplate = new JdbcTemplate(dataSource);
+        this.exportJdbcTemplate.setFetchSize(fetchSize);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        //한 줄 쓸 때마다 응답 스트림이 닫히지 않도록 AUTO_CLOSE_TARGET 해제
+        this.objectWriter = objectMapper.writerFor(UserSummaryDto.class)
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+        this.maxPageSize = maxPageSize;
+        this.timeoutMillis = TimeUnit.SECONDS.toMillis(timeoutSeconds);
+    }
+
+    //내보내기 요청의 비동기 처리 제한 시간 (0이면 제한 없음)
+    //기본 비동기 제한 시간(spring.mvc.async.request-timeout, 없으면 Tomcat 30초)은 큰 내보내기를 중간에 끊으므로 따로 지정
+    public long getTimeoutMillis() {
+        return timeoutMillis;
+    }
+
+    /**
+    * @methodName : getUsers
+    * @date : 2026-10-18 오후 8:05
+    * @author : hj
+    * @Description: afterId 다음부터 size 명의 유저 목록을 리턴
+    **/
+    public UserPageDto getUsers(long afterId, int size) {
+        int pageSize = Math.max(1, Math.min(size, maxPageSize));
+        List<UserSummaryDto> users = new ArrayList<>(pageSize);
+        jdbcTemplate.query(SELECT_PAGE, new UserGroupingExtractor(users::add), afterId, pageSize);
+
+        //페이지가 가득 찼으면 다음 페이지가 있을 수 있음
+        Long nextAfterId = users.size() == pageSize ? users.get(users.size() - 1).getUserId() : null;
+        return UserPageDto.builder()
+                .users(users)
+                .nextAfterId(nextAfterId)
+                .build();
+    }
+
+    /**
+    * @methodName : exportUsers
+    * @date : 2026-10-18 오후 8:05
+    * @author : hj
+    * @Description: 전체 유저를 한 줄에 하나씩 JSON(NDJSON)으로 outputStream에 씀
+    **/
+    //커서 방식 조회를 위해 읽기 전용 트랜잭션 안에서 실행 (PostgreSQL 등은 auto-commit이면 fetch size를 무시함)
+    public void exportUsers(OutputStream outputStream) throws IOException {
+        BufferedOutputStream output = new BufferedOutputStream(outputStream, 16 * 1024);
+        try {
+            readOnlyTransactionTemplate.executeWithoutResult(status ->
+                    exportJdbcTemplate.query(SELECT_ALL, new UserGroupingExtractor(user -> {
+                        objectWriter.writeValue(output, user);
+                        output.write('\n');
+                    })));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        output.flush();
+    }
+
+    //유저 한 명 단위로 호출되는 콜백
+    @FunctionalInterface
+    private interface UserWriter {
+        void write(UserSummaryDto user) throws IOException;
+    }
+
+    //user_id 순으로 정렬된 (유저, 권한) row를 유저 단위로 묶어서 UserWriter 호출, 같은 유저의 row만 메모리에 보관
+    private static final class UserGroupingExtractor implements ResultSetExtractor<Void> {
+        private final UserWriter writer;
+
+        private UserGroupingExtractor(UserWriter writer) {
+            this.writer = writer;
+        }
+
+        @Override
+        public Void extractData(ResultSet rs) throws SQLException {
+            UserSummaryDto current = null;
+            while (rs.next()) {
+                long userId = rs.getLong("user_id");
+                if (current == null || current.getUserId() != userId) {
+                    write(current);
+                    current = UserSummaryDto.builder()
+                            .userId(userId)
+                            .username(rs.getString("username"))
+                            .nickname(rs.getString("nickname"))
+                            .activated(rs.getBoolean("activated"))
+                            .authorities(new ArrayList<>(2))
+                            .build();
+                }
+                String authorityName = rs.getString("authority_name");
+                if (authorityName != null) {
+                    current.getAuthorities().add(UserInfoDto.AuthorityDto.builder().authorityName(authorityName).build());
+                }
+            }
+            write(current);
+            return null;
+        }
+
+        private void write(UserSummaryDto user) {
+            if (user == null) {
+                return;
+            }
+            try {
+                writer.write(user);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
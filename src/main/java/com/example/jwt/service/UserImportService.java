@@ -0,0 +1,299 @@
+package com.example.jwt.service;
+
+import com.example.jwt.config.SecondLevelCacheConfig;
+import com.example.jwt.dto.UserDto;
+import com.example.jwt.dto.UserImportResultDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManagerFactory;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+/**
+* @package : com.example.jwt.service
+* @name : UserImportService.java
+* @date : 2026-10-18 오후 7:20
+* @author : hj
+* @Description: NDJSON(한 줄에 UserDto JSON 하나) 형식의 유저 목록을 일괄 등록하는 클래스
+**/
+//요청 본문을 한 줄씩 읽어 chunk-size 단위로 처리하므로 수십만 건이어도 메모리에 전부 올리지 않음
+//chunk 마다 1. 중복 username을 in 쿼리 한 번으로 확인 2. BCrypt를 전용 ForkJoinPool에서 병렬로 수행 3. JDBC batch insert
+//users의 user_id가 IDENTITY라 JPA로는 batch insert가 되지 않으므로 JdbcTemplate으로 직접 insert
+//실패한 row는 사유를 모아서 응답하고 나머지 row는 계속 등록함 (chunk 단위 트랜잭션)
+//JPA를 거치지 않으므로 UserCacheListener는 호출되지 않음 (새 유저는 캐시에 없으므로 삭제할 항목도 없음)
+//단, username 조회 쿼리 캐시에는 "없음" 결과가 남아 있을 수 있으므로 insert 후 해당 영역을 비움
+//검색 인덱스는 엔티티 리스너 대신 insert 이후 UserSearchService에 직접 반영
+@Service
+public class UserImportService implements DisposableBean {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserImportService.class);
+
+    private static final String DEFAULT_AUTHORITY = "ROLE_USER";
+    private static final String INSERT_USER =
+            "insert into users (username, password, nickname, activated) values (?, ?, ?, ?)";
+    //생성된 user_id를 받아오지 않고 username으로 찾아서 권한 insert
+    private static final String INSERT_USER_AUTHORITY =
+            "insert into user_authority (user_id, authority_name) select user_id, ? from users where username = ?";
+    private static final String SELECT_EXISTING_USERNAMES =
+            "select username from users where username in (:usernames)";
+    private static final String SELECT_INSERTED_USERS =
+            "select user_id, username, nickname from users where username in (:usernames)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final NamedParameterJdbcTemplate namedParameterJdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final UserSearchService userSearchService;
+    private final EntityManagerFactory entityManagerFactory;
+    private final int chunkSize;
+    private final int maxReportedErrors;
+
+    //BCrypt 전용 풀, 로그인(PasswordCheckExecutor)에 쓸 CPU를 남겨두기 위해 크기를 제한
+    private final ForkJoinPool hashPool;
+
+    public UserImportService(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            PasswordEncoder passwordEncoder,
+            ObjectMapper objectMapper,
+            Validator validator,
+            UserSearchService userSearchService,
+            EntityManagerFactory entityManagerFactory,
+            @Value("${auth.user-import.chunk-size:1000}") int chunkSize,
+            @Value("${auth.user-import.hash-parallelism:0}") int hashParallelism,
+            @Value("${auth.user-import.max-reported-errors:1000}") int maxReportedErrors) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.namedParameterJdbcTemplate = new NamedParameterJdbcTemplate(jdbcTemplate);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.passwordEncoder = passwordEncoder;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.userSearchService = userSearchService;
+        this.entityManagerFactory = entityManagerFactory;
+        this.chunkSize = chunkSize;
+        this.maxReportedErrors = maxReportedErrors;
+        //hash-parallelism이 0이면 CPU 코어 수의 절반 사용
+        int parallelism = hashParallelism > 0 ? hashParallelism
+                : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        this.hashPool = new ForkJoinPool(parallelism);
+    }
+
+    /**
+    * @methodName : importUsers
+    * @date : 2026-10-18 오후 7:20
+    * @author : hj
+    * @Description: NDJSON 본문을 읽어 유저를 일괄 등록하고 결과를 리턴
+    **/
+    public UserImportResultDto importUsers(InputStream inputStream) throws IOException {
+        ImportResult result = new ImportResult(maxReportedErrors);
+        List<Row> chunk = new ArrayList<>(chunkSize);
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        String line;
+        int lineNumber = 0;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            result.total++;
+            Row row = parse(lineNumber, line, result);
+            if (row != null) {
+                chunk.add(row);
+            }
+            if (chunk.size() >= chunkSize) {
+                importChunk(chunk, result);
+                chunk.clear();
+            }
+        }
+        if (!chunk.isEmpty()) {
+            importChunk(chunk, result);
+        }
+
+        logger.info("유저 일괄 등록 완료. total: {}, imported: {}, failed: {}", result.total, result.imported, result.failed);
+        return result.toDto();
+    }
+
+    @Override
+    public void destroy() {
+        hashPool.shutdown();
+    }
+
+    private Row parse(int lineNumber, String line, ImportResult result) {
+        UserDto userDto;
+        try {
+            userDto = objectMapper.readValue(line, UserDto.class);
+        } catch (JsonProcessingException e) {
+            result.fail(lineNumber, null, "JSON 형식이 올바르지 않습니다.");
+            return null;
+        }
+
+        Set<ConstraintViolation<UserDto>> violations = validator.validate(userDto);
+        if (!violations.isEmpty()) {
+            String message = violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining(", "));
+            result.fail(lineNumber, userDto.getUsername(), message);
+            return null;
+        }
+        return new Row(lineNumber, userDto);
+    }
+
+    private void importChunk(List<Row> chunk, ImportResult result) {
+        //같은 요청 안에서 중복된 username은 먼저 나온 row만 등록
+        Map<String, Row> rows = new LinkedHashMap<>();
+        for (Row row : chunk) {
+            if (rows.putIfAbsent(row.username(), row) != null) {
+                result.fail(row.lineNumber, row.username(), "요청에 중복된 username 입니다.");
+            }
+        }
+
+        //이미 가입된 username을 한 번의 쿼리로 확인
+        List<String> existing = namedParameterJdbcTemplate.queryForList(SELECT_EXISTING_USERNAMES,
+                Collections.singletonMap("usernames", rows.keySet()), String.class);
+        for (String username : existing) {
+            Row row = rows.remove(username);
+            result.fail(row.lineNumber, username, "이미 가입되어 있는 유저입니다.");
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+
+        List<Row> toInsert = new ArrayList<>(rows.values());
+        hashPasswords(toInsert);
+
+        try {
+            insert(toInsert);
+            result.imported += toInsert.size();
+        } catch (DataAccessException e) {
+            //중복 확인 이후 다른 요청이 같은 username으로 가입한 경우 등, chunk 전체가 롤백되므로 한 건씩 다시 등록
+            logger.debug("chunk 일괄 등록 실패, 한 건씩 다시 등록합니다.", e);
+            for (Row row : toInsert) {
+                try {
+                    insert(Collections.singletonList(row));
+                    result.imported++;
+                } catch (DuplicateKeyException duplicate) {
+                    result.fail(row.lineNumber, row.username(), "이미 가입되어 있는 유저입니다.");
+                } catch (DataAccessException failure) {
+                    result.fail(row.lineNumber, row.username(), "등록에 실패했습니다: " + failure.getMostSpecificCause().getMessage());
+                }
+            }
+        }
+    }
+
+    //parallelStream을 hashPool 안에서 실행하면 공용 풀이 아닌 hashPool의 스레드로 나누어 실행됨
+    private void hashPasswords(List<Row> rows) {
+        try {
+            hashPool.submit(() -> rows.parallelStream()
+                    .forEach(row -> row.encodedPassword = passwordEncoder.encode(row.userDto.getPassword())))
+                    .get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("비밀번호 암호화 중 인터럽트가 발생했습니다.", e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("비밀번호 암호화에 실패했습니다.", e.getCause());
+        }
+    }
+
+    private void insert(List<Row> rows) {
+        transactionTemplate.executeWithoutResult(status -> {
+            jdbcTemplate.batchUpdate(INSERT_USER, rows, rows.size(), (ps, row) -> {
+                ps.setString(1, row.username());
+                ps.setString(2, row.encodedPassword);
+                ps.setString(3, row.userDto.getNickname());
+                ps.setBoolean(4, true);
+            });
+            jdbcTemplate.batchUpdate(INSERT_USER_AUTHORITY, rows, rows.size(), (ps, row) -> {
+                ps.setString(1, DEFAULT_AUTHORITY);
+                ps.setString(2, row.username());
+            });
+
+            //생성된 user_id로 검색 인덱스에 반영 (커밋 이후)
+            List<String> usernames = new ArrayList<>(rows.size());
+            rows.forEach(row -> usernames.add(row.username()));
+            namedParameterJdbcTemplate.query(SELECT_INSERTED_USERS, Collections.singletonMap("usernames", usernames),
+                    rs -> {
+                        userSearchService.update(rs.getLong("user_id"), rs.getString("username"), rs.getString("nickname"));
+                    });
+        });
+        //커밋 이후에 비워야 그 사이 다시 "없음"으로 캐시되지 않음
+        entityManagerFactory.getCache().unwrap(org.hibernate.Cache.class)
+                .evictQueryRegion(SecondLevelCacheConfig.USER_BY_USERNAME_REGION);
+    }
+
+    //요청 본문의 한 줄
+    private static final class Row {
+        private final int lineNumber;
+        private final UserDto userDto;
+        private String encodedPassword;
+
+        private Row(int lineNumber, UserDto userDto) {
+            this.lineNumber = lineNumber;
+            this.userDto = userDto;
+        }
+
+        private String username() {
+            return userDto.getUsername();
+        }
+    }
+
+    //처리 결과 집계, 실패 사유는 최대 maxReportedErrors 건만 보관
+    private static final class ImportResult {
+        private final int maxReportedErrors;
+        private final List<UserImportResultDto.ErrorDto> errors = new ArrayList<>();
+        private int total;
+        private int imported;
+        private int failed;
+
+        private ImportResult(int maxReportedErrors) {
+            this.maxReportedErrors = maxReportedErrors;
+        }
+
+        private void fail(int lineNumber, String username, String message) {
+            failed++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(UserImportResultDto.ErrorDto.builder()
+                        .line(lineNumber)
+                        .username(username)
+                        .message(message)
+                        .build());
+            }
+        }
+
+        private UserImportResultDto toDto() {
+            errors.sort(Comparator.comparingInt(UserImportResultDto.ErrorDto::getLine));
+            return UserImportResultDto.builder()
+                    .total(total)
+                    .imported(imported)
+                    .failed(failed)
+                    .errors(errors)
+                    .errorsTruncated(failed > errors.size())
+                    .build();
+        }
+    }
+}
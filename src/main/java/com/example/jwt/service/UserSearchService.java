@@ -0,0 +1,222 @@
+package com.example.jwt.service;
+
+import com.example.jwt.dto.UserSearchResultDto;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+* @package : com.example.jwt.service
+* @name : UserSearchService.java
+* @date : 2026-10-18 오후 8:40
+* @author : hj
+* @Description: username, nickname 앞부분(prefix)으로 유저를 검색하는 클래스 (관리자 화면 자동완성용)
+**/
+//소문자로 바꾼 username, nickname을 키로 하는 정렬된 맵(ConcurrentSkipListMap)을 메모리에 두고
+//prefix 로 시작하는 구간(subMap)만 앞에서부터 limit 건 읽으므로 유저 수와 관계없이 빠르게 검색됨
+//서버 시작 시 전체 유저로 만들고, 이후에는 User 엔티티 리스너(UserSearchIndexListener)와 일괄 등록에서 한 건씩 반영
+//auth.user-search.index-enabled가 false이거나 인덱스를 아직 만들지 못한 경우 DB의 username/nickname 인덱스로 LIKE 'x%' 검색
+@Service
+public class UserSearchService {
+
+    private static final Logger logger = LoggerFactory.getLogger(UserSearchService.class);
+
+    //검색어 + 구분자 + username 형식의 키, 구분자는 검색어에 들어갈 수 없는 문자
+    private static final char KEY_SEPARATOR = '\u0000';
+
+    private static final String SELECT_ALL = "select user_id, username, nickname from users";
+    //검색어를 소문자로 바꾸지 않고 검색해야 인덱스를 사용할 수 있으므로 DB 검색은 대소문자를 구분함
+    private static final String SELECT_BY_PREFIX =
+            "select user_id, username, nickname from users where username like ? escape '!' " +
+            "union " +
+            "select user_id, username, nickname from users where nickname like ? escape '!' " +
+            "order by username limit ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final boolean indexEnabled;
+    private final int maxLimit;
+
+    //정규화된 검색어 + 구분자 + username -> 유저
+    private final ConcurrentNavigableMap<String, Entry> index = new ConcurrentSkipListMap<>();
+    //user_id -> 인덱스에 들어 있는 유저 (변경 시 이전 키를 지우기 위해 사용)
+    private final ConcurrentMap<Long, Entry> entries = new ConcurrentHashMap<>();
+    private volatile boolean indexReady;
+
+    public UserSearchService(
+            JdbcTemplate jdbcTemplate,
+            @Value("${auth.user-search.index-enabled:true}") boolean indexEnabled,
+            @Value("${auth.user-search.max-limit:100}") int maxLimit) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.indexEnabled = indexEnabled;
+        this.maxLimit = maxLimit;
+    }
+
+    /**
+    * @methodName : buildIndex
+    * @date : 2026-10-18 오후 8:40
+    * @author : hj
+    * @Description: 서버 시작 후 전체 유저로 검색 인덱스를 만듦
+    **/
+    //DB에 연결할 수 없으면 인덱스 없이 시작하고 DB 검색을 사용
+    @EventListener(ApplicationReadyEvent.class)
+    public void buildIndex() {
+        if (!indexEnabled) {
+            return;
+        }
+        try {
+            jdbcTemplate.query(SELECT_ALL, rs -> {
+                put(new Entry(rs.getLong("user_id"), rs.getString("username"), rs.getString("nickname")));
+            });
+            indexReady = true;
+            logger.info("유저 검색 인덱스를 만들었습니다. 유저 수: {}", entries.size());
+        } catch (DataAccessException e) {
+            logger.warn("유저 검색 인덱스를 만들지 못했습니다. DB 검색을 사용합니다.", e);
+        }
+    }
+
+    /**
+    * @methodName : search
+    * @date : 2026-10-18 오후 8:40
+    * @author : hj
+    * @Description: username 또는 nickname이 query로 시작하는 유저를 최대 limit 명 리턴
+    **/
+    public List<UserSearchResultDto> search(String query, int limit) {
+        int size = Math.max(1, Math.min(limit, maxLimit));
+        if (query == null || query.isEmpty()) {
+            return Collections.emptyList();
+        }
+        return indexReady ? searchIndex(query, size) : searchDatabase(query, size);
+    }
+
+    /**
+    * @methodName : update
+    * @date : 2026-10-18 오후 8:40
+    * @author : hj
+    * @Description: 추가/변경된 유저를 인덱스에 반영 (트랜잭션 안이면 커밋 이후 반영)
+    **/
+    public void update(Long userId, String username, String nickname) {
+        afterCommit(() -> put(new Entry(userId, username, nickname)));
+    }
+
+    /**
+    * @methodName : remove
+    * @date : 2026-10-18 오후 8:40
+    * @author : hj
+    * @Description: 삭제된 유저를 인덱스에서 제거 (트랜잭션 안이면 커밋 이후 반영)
+    **/
+    public void remove(Long userId) {
+        afterCommit(() -> removeEntry(userId));
+    }
+
+    private List<UserSearchResultDto> searchIndex(String query, int limit) {
+        String prefix = normalize(query);
+        //prefix 로 시작하는 키의 구간 (prefix 뒤에 어떤 문자가 와도 prefix + Character.MAX_VALUE 보다 작음)
+        ConcurrentNavigableMap<String, Entry> range = index.subMap(prefix, true, prefix + Character.MAX_VALUE, true);
+
+        //username과 nickname이 모두 일치하는 유저는 한 번만 리턴
+        Map<Long, UserSearchResultDto> results = new LinkedHashMap<>();
+        for (Entry entry : range.values()) {
+            results.putIfAbsent(entry.userId, entry.toDto());
+            if (results.size() >= limit) {
+                break;
+            }
+        }
+        return new ArrayList<>(results.values());
+    }
+
+    private List<UserSearchResultDto> searchDatabase(String query, int limit) {
+        String pattern = escapeLike(query) + "%";
+        return jdbcTemplate.query(SELECT_BY_PREFIX, (rs, rowNum) -> UserSearchResultDto.builder()
+                .userId(rs.getLong("user_id"))
+                .username(rs.getString("username"))
+                .nickname(rs.getString("nickname"))
+                .build(), pattern, pattern, limit);
+    }
+
+    //같은 유저를 동시에 변경하는 경우 이전 키 삭제/새 키 추가가 섞이지 않도록 쓰기만 동기화 (조회는 락 없음)
+    private synchronized void put(Entry entry) {
+        Entry previous = entries.put(entry.userId, entry);
+        if (previous != null) {
+            index.remove(key(previous.username, previous));
+            if (previous.nickname != null) {
+                index.remove(key(previous.nickname, previous));
+            }
+        }
+        index.put(key(entry.username, entry), entry);
+        if (entry.nickname != null) {
+            index.put(key(entry.nickname, entry), entry);
+        }
+    }
+
+    private synchronized void removeEntry(Long userId) {
+        Entry previous = entries.remove(userId);
+        if (previous != null) {
+            index.remove(key(previous.username, previous));
+            if (previous.nickname != null) {
+                index.remove(key(previous.nickname, previous));
+            }
+        }
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!indexEnabled) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private static String key(String term, Entry entry) {
+        return normalize(term) + KEY_SEPARATOR + entry.username;
+    }
+
+    private static String normalize(String term) {
+        return term.toLowerCase(Locale.ROOT);
+    }
+
+    private static String escapeLike(String value) {
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+
+    //인덱스에 보관하는 불변 유저 정보
+    private static final class Entry {
+        private final Long userId;
+        private final String username;
+        private final String nickname;
+
+        private Entry(Long userId, String username, String nickname) {
+            this.userId = userId;
+            this.username = username;
+            this.nickname = nickname;
+        }
+
+        private UserSearchResultDto toDto() {
+            return UserSearchResultDto.builder()
+                    .userId(userId)
+                    .username(username)
+                    .nickname(nickname)
+                    .build();
+        }
+    }
+}
@@ -2,25 +2,40 @@ package com.example.jwt.service;
 
 
 import com.example.jwt.dto.UserDto;
+import com.example.jwt.dto.UserInfoDto;
 import com.example.jwt.entity.Authority;
 import com.example.jwt.entity.User;
+import com.example.jwt.jwt.TokenProfile;
 import com.example.jwt.repository.UserRepository;
 import com.example.jwt.utils.SecurityUtil;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.DigestUtils;
 
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 @Service
 public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final UserCache userCache;
+    private final ObjectMapper objectMapper;
 
-    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder) {
+    public UserService(UserRepository userRepository, PasswordEncoder passwordEncoder, UserCache userCache,
+                       ObjectMapper objectMapper) {
         this.userRepository = userRepository;
         this.passwordEncoder = passwordEncoder;
+        this.userCache = userCache;
+        this.objectMapper = objectMapper;
     }
 
     /**
@@ -58,9 +73,26 @@ public class UserService {
     * @author : hj
     * @Description: SecurityUtil의 getCurrentUsername 메소드가 리턴하는 username의 유저 권한 및 권한 정보 리턴
     **/
-    @Transactional(readOnly = true)
-    public Optional<User> getMyUserWithAuthorities() {
-        return SecurityUtil.getCurrentUsername().flatMap(userRepository::findOneWithAuthoritiesByUsername);
+    //토큰에 최신 버전의 프로필 클레임이 있으면 토큰 정보만으로 응답 (jwt.profile-claim.enabled)
+    //그 외에는 UserCache의 스냅샷으로 만든 DTO를 리턴 (캐시 적중 시 DB 조회 없음)
+    public Optional<UserInfoDto> getMyUserWithAuthorities() {
+        return getMyUserWithAuthorities(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    /**
+    * @methodName : getMyUserWithAuthorities
+    * @date : 2026-10-19 오전 2:10
+    * @author : hj
+    * @Description: 전달받은 인증 정보 기준으로 유저 정보 및 권한 정보 리턴 (WebFlux 컨트롤러용)
+    **/
+    public Optional<UserInfoDto> getMyUserWithAuthorities(Authentication authentication) {
+        if (authentication != null && authentication.getDetails() instanceof TokenProfile) {
+            TokenProfile profile = (TokenProfile) authentication.getDetails();
+            if (profile.getVersion() == userCache.getProfileVersion(profile.getUsername())) {
+                return Optional.of(createUserInfo(profile, authentication));
+            }
+        }
+        return SecurityUtil.getUsername(authentication).flatMap(this::getUserWithAuthorities);
     }
 
     /**
@@ -69,9 +101,37 @@ public class UserService {
     * @author : hj
     * @Description: username을 통해 해당 유저의 정보 및 권한 정보 리턴
     **/
-    @Transactional(readOnly = true)
-    public Optional<User> getUserWithAuthorities(String username) {
-        return userRepository.findOneWithAuthoritiesByUsername(username);
+    public Optional<UserInfoDto> getUserWithAuthorities(String username) {
+        return userCache.get(username).map(UserCache.Snapshot::toUserInfo);
+    }
+
+    /**
+    * @methodName : getUserETag
+    * @date : 2026-10-18 오후 6:45
+    * @author : hj
+    * @Description: 유저 정보 응답의 ETag 리턴 (응답 본문 JSON의 md5)
+    **/
+    //응답 본문에서 만들기 때문에 서버가 여러 대여도 같은 데이터면 같은 ETag, 어디서 변경되었든 본문이 바뀌면 ETag도 바뀜
+    //본문을 만들어야 하므로 304 응답도 유저 정보 조회(UserCache)는 필요하며, 응답 본문 전송만 생략됨
+    public String getUserETag(UserInfoDto userInfo) {
+        try {
+            return "\"" + DigestUtils.md5DigestAsHex(objectMapper.writeValueAsBytes(userInfo)) + "\"";
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("유저 정보를 직렬화할 수 없습니다.", e);
+        }
+    }
+
+    //토큰의 프로필 클레임과 권한으로 응답용 DTO 생성
+    private UserInfoDto createUserInfo(TokenProfile profile, Authentication authentication) {
+        List<UserInfoDto.AuthorityDto> authorities = new ArrayList<>(authentication.getAuthorities().size());
+        for (GrantedAuthority grantedAuthority : authentication.getAuthorities()) {
+            authorities.add(UserInfoDto.AuthorityDto.builder().authorityName(grantedAuthority.getAuthority()).build());
+        }
+        return UserInfoDto.builder()
+                .username(profile.getUsername())
+                .nickname(profile.getNickname())
+                .authorities(authorities)
+                .build();
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,94 @@
+package com.example.jwt.utils;
+
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+* @package : com.example.jwt.utils
+* @name : AuthorityRegistry.java
+* @date : 2026-10-18 오전 11:40
+* @author : hj
+* @Description: 권한 객체(GrantedAuthority)를 공유 인스턴스로 관리하는 유틸 클래스
+**/
+//권한의 종류는 몇 개 되지 않으므로(ROLE_USER, ROLE_ADMIN) 매 요청마다 SimpleGrantedAuthority를 새로 만들지 않고
+//권한명 -> 권한 객체, auth 클레임 문자열 -> 불변 권한 리스트 를 한 번만 만들어 재사용
+//정규식을 사용하는 String.split 대신 indexOf로 직접 파싱
+public final class AuthorityRegistry {
+
+    //처음 보는 권한/조합이 무한정 쌓이지 않도록 제한, 넘어가면 캐시하지 않고 새로 만들어서 리턴
+    private static final int MAX_AUTHORITIES = 64;
+    private static final int MAX_COMBINATIONS = 256;
+
+    private static final ConcurrentMap<String, GrantedAuthority> AUTHORITIES = new ConcurrentHashMap<>();
+    private static final ConcurrentMap<String, List<GrantedAuthority>> COMBINATIONS = new ConcurrentHashMap<>();
+
+    static {
+        //Authority 테이블에 등록된 기본 권한
+        of("ROLE_USER");
+        of("ROLE_ADMIN");
+    }
+
+    private AuthorityRegistry() {
+    }
+
+    /**
+    * @methodName : of
+    * @date : 2026-10-18 오전 11:40
+    * @author : hj
+    * @Description: 권한명에 해당하는 공유 GrantedAuthority 인스턴스를 리턴
+    **/
+    public static GrantedAuthority of(String authorityName) {
+        GrantedAuthority authority = AUTHORITIES.get(authorityName);
+        if (authority != null) {
+            return authority;
+        }
+        if (AUTHORITIES.size() >= MAX_AUTHORITIES) {
+            return new SimpleGrantedAuthority(authorityName);
+        }
+        return AUTHORITIES.computeIfAbsent(authorityName, SimpleGrantedAuthority::new);
+    }
+
+    /**
+    * @methodName : parse
+    * @date : 2026-10-18 오전 11:40
+    * @author : hj
+    * @Description: 콤마로 구분된 auth 클레임을 불변 권한 리스트로 변환
+    **/
+    //같은 조합의 클레임은 항상 같은 리스트 인스턴스를 리턴하므로 정상 상태에서는 할당이 거의 발생하지 않음
+    public static List<GrantedAuthority> parse(String authoritiesClaim) {
+        List<GrantedAuthority> authorities = COMBINATIONS.get(authoritiesClaim);
+        if (authorities != null) {
+            return authorities;
+        }
+
+        authorities = split(authoritiesClaim);
+        if (COMBINATIONS.size() >= MAX_COMBINATIONS) {
+            return authorities;
+        }
+        List<GrantedAuthority> previous = COMBINATIONS.putIfAbsent(authoritiesClaim, authorities);
+        return previous != null ? previous : authorities;
+    }
+
+    private static List<GrantedAuthority> split(String authoritiesClaim) {
+        List<GrantedAuthority> authorities = new ArrayList<>(2);
+        int start = 0;
+        int length = authoritiesClaim.length();
+        while (start <= length) {
+            int end = authoritiesClaim.indexOf(',', start);
+            if (end < 0) {
+                end = length;
+            }
+            if (end > start) { //빈 권한명은 건너뜀
+                authorities.add(of(authoritiesClaim.substring(start, end)));
+            }
+            start = end + 1;
+        }
+        return Collections.unmodifiableList(authorities);
+    }
+}
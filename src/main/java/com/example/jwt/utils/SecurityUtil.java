@@ -30,8 +30,17 @@ public class SecurityUtil {
     **/
     //Request 가 들어올 때 JwtFilter 의 doFilter 에서 저장
     public static Optional<String> getCurrentUsername() { //jwtfilter 클래스의 dofilter 메소드에서 저장한 security context의 인증정보에서 User정보를 리턴
-        final Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return getUsername(SecurityContextHolder.getContext().getAuthentication());
+    }
 
+    /**
+    * @methodName : getUsername
+    * @date : 2026-10-19 오전 2:10
+    * @author : hj
+    * @Description: 인증 정보에서 username 을 꺼냄
+    **/
+    //WebFlux(reactive 프로필)에서는 SecurityContextHolder 대신 ReactiveSecurityContextHolder 의 인증 정보를 넘겨서 사용
+    public static Optional<String> getUsername(Authentication authentication) {
         if (authentication == null) {
             logger.debug("Security Context에 인증 정보가 없습니다.");
             return Optional.empty();
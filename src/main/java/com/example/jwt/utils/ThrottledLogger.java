@@ -0,0 +1,58 @@
+package com.example.jwt.utils;
+
+import org.slf4j.Logger;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+* @package : com.example.jwt.utils
+* @name : ThrottledLogger.java
+* @date : 2026-10-18 오후 10:40
+* @author : hj
+* @Description: 같은 메시지를 interval 마다 최대 한 번만 남기는 로그 유틸 클래스
+**/
+//잘못된 토큰이 대량으로 들어오면 요청마다 남기는 info 로그 자체가 부하가 되므로 사용
+//interval 안에 생략된 횟수는 다음 로그에 함께 남김 (정확한 건수는 메트릭으로 확인)
+public final class ThrottledLogger {
+
+    private final Logger logger;
+    private final String message;
+    private final long intervalNanos;
+    //다음 로그를 남길 수 있는 시각 (System.nanoTime 기준)
+    private final AtomicLong nextLogAt;
+    private final LongAdder suppressed = new LongAdder();
+
+    public ThrottledLogger(Logger logger, String message, long intervalMillis) {
+        this.logger = logger;
+        this.message = message;
+        this.intervalNanos = TimeUnit.MILLISECONDS.toNanos(intervalMillis);
+        this.nextLogAt = new AtomicLong(System.nanoTime());
+    }
+
+    /**
+    * @methodName : info
+    * @date : 2026-10-18 오후 10:40
+    * @author : hj
+    * @Description: interval 이 지났으면 info 로그를 남기고, 아니면 생략 횟수만 증가
+    **/
+    public void info() {
+        if (!logger.isInfoEnabled()) {
+            return;
+        }
+        long now = System.nanoTime();
+        long next = nextLogAt.get();
+        //여러 스레드가 동시에 interval을 넘겨도 CAS에 성공한 스레드 하나만 로그를 남김
+        if (now - next < 0 || !nextLogAt.compareAndSet(next, now + intervalNanos)) {
+            suppressed.increment();
+            return;
+        }
+        long suppressedCount = suppressed.sumThenReset();
+        if (suppressedCount > 0) {
+            logger.info("{} (이전 로그 이후 {}건 생략)", message, suppressedCount);
+        } else {
+            logger.info(message);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+--ddl-auto: none 이므로 Entity에 새로 추가된 테이블은 이 파일로 생성 (spring.sql.init.mode 설정 시 data.sql 보다 먼저 실행)
+
+CREATE TABLE IF NOT EXISTS REFRESH_TOKEN (
+    TOKEN_HASH VARCHAR(64) NOT NULL PRIMARY KEY,
+    USERNAME   VARCHAR(50) NOT NULL,
+    FAMILY_ID  VARCHAR(36) NOT NULL,
+    EXPIRES_AT BIGINT      NOT NULL,
+    USED       BOOLEAN     NOT NULL
+);
+CREATE INDEX IF NOT EXISTS IDX_REFRESH_TOKEN_EXPIRES_AT ON REFRESH_TOKEN (EXPIRES_AT);
+CREATE INDEX IF NOT EXISTS IDX_REFRESH_TOKEN_FAMILY_ID ON REFRESH_TOKEN (FAMILY_ID);
+CREATE INDEX IF NOT EXISTS IDX_REFRESH_TOKEN_USERNAME ON REFRESH_TOKEN (USERNAME);
+
+--User 엔티티의 @Version 컬럼, 권한(user_authority)만 바뀌어도 users UPDATE가 실행되어 UserCache가 삭제되도록 사용
+ALTER TABLE USERS ADD COLUMN IF NOT EXISTS VERSION BIGINT DEFAULT 0 NOT NULL;
+
+--유저 검색(nickname LIKE 'x%') 용 인덱스, username은 unique 인덱스를 사용
+CREATE INDEX IF NOT EXISTS IDX_USERS_NICKNAME ON USERS (NICKNAME);
+
+--인증 감사 로그, AuthAuditLog가 batch insert (append-only)
+CREATE TABLE IF NOT EXISTS AUTH_AUDIT_LOG (
+    ID         BIGINT AUTO_INCREMENT PRIMARY KEY,
+    EVENT_TYPE VARCHAR(30)  NOT NULL,
+    USERNAME   VARCHAR(50),
+    CLIENT_IP  VARCHAR(45),
+    DETAIL     VARCHAR(255),
+    CREATED_AT TIMESTAMP    NOT NULL
+);
+CREATE INDEX IF NOT EXISTS IDX_AUTH_AUDIT_LOG_CREATED_AT ON AUTH_AUDIT_LOG (CREATED_AT);
+CREATE INDEX IF NOT EXISTS IDX_AUTH_AUDIT_LOG_USERNAME ON AUTH_AUDIT_LOG (USERNAME);
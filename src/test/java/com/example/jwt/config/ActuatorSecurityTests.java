@@ -0,0 +1,82 @@
+package com.example.jwt.config;
+
+import com.example.jwt.jwt.TokenProvider;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.metrics.AutoConfigureMetrics;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.httpBasic;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+//테스트에서는 BCrypt 대신 {noop} 비밀번호 사용, /actuator/prometheus 가 등록되도록 지표 export 활성화
+@SpringBootTest(properties = {
+        "auth.actuator.scraper.username=scraper",
+        "auth.actuator.scraper.password={noop}scrape-secret"
+})
+@AutoConfigureMockMvc
+@AutoConfigureMetrics
+@ActiveProfiles("test")
+class ActuatorSecurityTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private TokenProvider tokenProvider;
+
+    @Test
+    void probesArePublic() throws Exception {
+        mockMvc.perform(get("/actuator/health/liveness"))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void metricsRequireCredentials() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isUnauthorized());
+        mockMvc.perform(get("/actuator/metrics"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    void userTokenCannotReadMetrics() throws Exception {
+        String token = token("lhj", "ROLE_USER");
+
+        mockMvc.perform(get("/actuator/prometheus").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isForbidden());
+        mockMvc.perform(get("/actuator/metrics/auth.login.attempts").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    void adminTokenCanReadMetrics() throws Exception {
+        String token = token("admin", "ROLE_USER", "ROLE_ADMIN");
+
+        mockMvc.perform(get("/actuator/metrics").header(HttpHeaders.AUTHORIZATION, "Bearer " + token))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    void scraperCanReadPrometheusWithBasicAuth() throws Exception {
+        mockMvc.perform(get("/actuator/prometheus").with(httpBasic("scraper", "scrape-secret")))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/actuator/prometheus").with(httpBasic("scraper", "wrong")))
+                .andExpect(status().isUnauthorized());
+        //수집기 계정은 DB 유저가 아니므로 일반 API에는 사용할 수 없음
+        mockMvc.perform(get("/api/user").with(httpBasic("scraper", "scrape-secret")))
+                .andExpect(status().isUnauthorized());
+    }
+
+    private String token(String username, String... authorities) {
+        return tokenProvider.createToken(new UsernamePasswordAuthenticationToken(username, null,
+                AuthorityUtils.createAuthorityList(authorities)));
+    }
+}
@@ -0,0 +1,114 @@
+package com.example.jwt.controller;
+
+import com.example.jwt.dto.UserDto;
+import com.example.jwt.dto.UserInfoDto;
+import com.example.jwt.repository.UserRepository;
+import com.example.jwt.service.UserService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.request.MockHttpServletRequestBuilder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.user;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class UserControllerTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void eTagRevalidatesUntilUserChanges() throws Exception {
+        userService.signup(new UserDto("etag-user", "etag-password", "before"));
+
+        String eTag = mockMvc.perform(getUserInfo("etag-user"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nickname").value("before"))
+                .andExpect(header().exists(HttpHeaders.ETAG))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(getUserInfo("etag-user").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(content().string(""));
+
+        transactionTemplate.executeWithoutResult(status ->
+                userRepository.findOneWithAuthoritiesByUsername("etag-user").get().setNickname("after"));
+
+        String changedETag = mockMvc.perform(getUserInfo("etag-user").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.nickname").value("after"))
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(changedETag).isNotEqualTo(eTag);
+
+        mockMvc.perform(getUserInfo("etag-user").header(HttpHeaders.IF_NONE_MATCH, changedETag))
+                .andExpect(status().isNotModified());
+    }
+
+    //서버마다 따로 만든 응답이라도 본문이 같으면 ETag가 같아야 함
+    @Test
+    void eTagDependsOnlyOnResponseBody() {
+        assertThat(userService.getUserETag(userInfo("lhj", "lhj")))
+                .isEqualTo(userService.getUserETag(userInfo("lhj", "lhj")))
+                .isNotEqualTo(userService.getUserETag(userInfo("lhj", "renamed")));
+    }
+
+    //큰 내보내기가 기본 비동기 제한 시간(Tomcat 30초)에 끊기지 않도록 auth.user-export.timeout-seconds 사용
+    @Test
+    void exportStreamsNdjsonWithExportTimeout() throws Exception {
+        MvcResult mvcResult = mockMvc.perform(get("/api/admin/users/export").with(user("admin").roles("USER", "ADMIN")))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        assertThat(mvcResult.getRequest().getAsyncContext().getTimeout()).isEqualTo(TimeUnit.MINUTES.toMillis(30));
+
+        String body = mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_NDJSON))
+                .andReturn().getResponse().getContentAsString();
+        assertThat(body.split("\n"))
+                .anySatisfy(line -> assertThat(line).contains("\"username\":\"admin\""))
+                .anySatisfy(line -> assertThat(line).contains("\"username\":\"lhj\""));
+    }
+
+    private static MockHttpServletRequestBuilder getUserInfo(String username) {
+        return get("/api/user/{username}", username).with(user("admin").roles("USER", "ADMIN"));
+    }
+
+    private static UserInfoDto userInfo(String username, String nickname) {
+        return UserInfoDto.builder()
+                .username(username)
+                .nickname(nickname)
+                .authorities(Collections.singletonList(
+                        UserInfoDto.AuthorityDto.builder().authorityName("ROLE_USER").build()))
+                .build();
+    }
+}
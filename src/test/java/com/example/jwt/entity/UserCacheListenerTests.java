@@ -0,0 +1,76 @@
+package com.example.jwt.entity;
+
+import com.example.jwt.config.SecondLevelCacheConfig;
+import com.example.jwt.repository.UserRepository;
+import com.example.jwt.service.UserCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+@ActiveProfiles("test")
+@Import({UserCache.class, SecondLevelCacheConfig.class, UserCacheListenerTests.MetricsConfig.class})
+class UserCacheListenerTests {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserCache userCache;
+
+    @Test
+    void authorityOnlyChangeEvictsCachedSnapshot() {
+        assertThat(authorityNames("lhj")).containsExactly("ROLE_USER");
+        long versionBefore = userCache.getProfileVersion("lhj");
+
+        //users 컬럼은 그대로 두고 user_authority 에만 row 추가
+        User user = userRepository.findOneWithAuthoritiesByUsername("lhj").orElseThrow();
+        user.getAuthorities().add(entityManager.find(Authority.class, "ROLE_ADMIN"));
+        entityManager.flush();
+
+        assertThat(user.getVersion()).isEqualTo(1L);
+        assertThat(authorityNames("lhj")).containsExactly("ROLE_ADMIN", "ROLE_USER");
+        assertThat(userCache.getProfileVersion("lhj")).isGreaterThan(versionBefore);
+    }
+
+    @Test
+    void authorityRemovalEvictsCachedSnapshot() {
+        assertThat(authorityNames("admin")).containsExactly("ROLE_ADMIN", "ROLE_USER");
+
+        User user = userRepository.findOneWithAuthoritiesByUsername("admin").orElseThrow();
+        user.getAuthorities().removeIf(authority -> authority.getAuthorityName().equals("ROLE_ADMIN"));
+        entityManager.flush();
+
+        assertThat(authorityNames("admin")).containsExactly("ROLE_USER");
+    }
+
+    private List<String> authorityNames(String username) {
+        return userCache.get(username).orElseThrow().getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .collect(Collectors.toList());
+    }
+
+    @TestConfiguration(proxyBeanMethods = false)
+    static class MetricsConfig {
+        @Bean
+        MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.jwt.jwt;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Instant;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtKeyRingTests {
+
+    private static final String SECRET = Base64.getEncoder().encodeToString(new byte[64]);
+
+    @Test
+    void unknownActiveKidFailsAtStartup() {
+        JwtKeyRingProperties properties = new JwtKeyRingProperties();
+        properties.setActiveKid("hs-typo");
+        properties.getKeys().add(hmacKey("hs-2026-10", null));
+
+        JwtKeyRing keyRing = new JwtKeyRing(SECRET, properties, 1800);
+
+        //legacy 키로 대신 서명하지 않고 시작 실패
+        assertThatThrownBy(keyRing::afterPropertiesSet)
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("hs-typo");
+    }
+
+    @Test
+    void configuredActiveKidIsUsedForSigning() {
+        JwtKeyRingProperties properties = new JwtKeyRingProperties();
+        properties.setActiveKid("hs-2026-10");
+        properties.getKeys().add(hmacKey("hs-2026-10", null));
+
+        JwtKeyRing keyRing = new JwtKeyRing(SECRET, properties, 1800);
+        keyRing.afterPropertiesSet();
+
+        assertThat(keyRing.getActiveKey().getKid()).isEqualTo("hs-2026-10");
+    }
+
+    @Test
+    void withoutActiveKidFallsBackToLegacyUntilActivateAt() {
+        JwtKeyRingProperties properties = new JwtKeyRingProperties();
+        properties.getKeys().add(hmacKey("hs-next", Instant.now().plusSeconds(3600)));
+
+        JwtKeyRing keyRing = new JwtKeyRing(SECRET, properties, 1800);
+        keyRing.afterPropertiesSet();
+
+        assertThat(keyRing.getActiveKey().getKid()).isEqualTo(properties.getLegacyKid());
+    }
+
+    private static JwtKeyRingProperties.Key hmacKey(String kid, Instant activateAt) {
+        JwtKeyRingProperties.Key key = new JwtKeyRingProperties.Key();
+        key.setKid(kid);
+        key.setSecret(Base64.getEncoder().encodeToString(new byte[64]));
+        key.setActivateAt(activateAt);
+        return key;
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.jwt.jwt;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+//로그인은 CompletableFuture 응답이라 REQUEST, ASYNC 두 번 디스패치되지만 RateLimiter 토큰은 한 번만 사용되어야 함
+//IP 기준 버킷 크기를 1로 두어 ASYNC 디스패치에서 토큰을 다시 쓰면 429가 되도록 설정
+@SpringBootTest(properties = {
+        "auth.rate-limit.anonymous.capacity=1",
+        "auth.rate-limit.anonymous.replenish-per-second=1"
+})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class RateLimitFilterTests {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Test
+    void loginUsesExactlyOneToken() throws Exception {
+        double allowedBefore = allowedCount();
+
+        MvcResult mvcResult = mockMvc.perform(post("/api/authenticate")
+                        .param("username", "admin")
+                        .param("password", "admin")
+                        .with(request -> {
+                            request.setRemoteAddr("10.0.0.17");
+                            return request;
+                        }))
+                .andExpect(request().asyncStarted())
+                .andExpect(header().string("X-RateLimit-Remaining", "0"))
+                .andReturn();
+
+        mockMvc.perform(asyncDispatch(mvcResult))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.token").isNotEmpty())
+                .andExpect(jsonPath("$.refreshToken").isNotEmpty());
+
+        assertThat(allowedCount() - allowedBefore).isEqualTo(1.0);
+    }
+
+    private double allowedCount() {
+        return meterRegistry.get("auth.rate-limit.requests").tag("result", "allowed").counter().count();
+    }
+}
@@ -0,0 +1,142 @@
+package com.example.jwt.jwt;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimiterTests {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private RateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setAnonymous(new RateLimitProperties.Limit(3, 1));
+        properties.getAuthorities().put("ROLE_USER", new RateLimitProperties.Limit(5, 1));
+        properties.getAuthorities().put("ROLE_ADMIN", new RateLimitProperties.Limit(10, 2));
+        rateLimiter = new RateLimiter(properties, new SimpleMeterRegistry());
+    }
+
+    @Test
+    void burstUpToCapacityThenRejectWithWaitUntilNextToken() {
+        long now = 1_000 * SECOND;
+
+        assertThat(rateLimiter.tryAcquire(null, "10.0.0.1", now)).isEqualTo(2);
+        assertThat(rateLimiter.tryAcquire(null, "10.0.0.1", now)).isEqualTo(1);
+        assertThat(rateLimiter.tryAcquire(null, "10.0.0.1", now)).isEqualTo(0);
+
+        //거절 결과는 -(대기 nanos) - 1
+        assertThat(rateLimiter.tryAcquire(null, "10.0.0.1", now)).isEqualTo(-SECOND - 1);
+        assertThat(rateLimiter.tryAcquire(null, "10.0.0.1", now + SECOND / 4)).isEqualTo(-(SECOND * 3 / 4) - 1);
+
+        //1초에 1건씩 다시 채워짐
+        assertThat(rateLimiter.tryAcquire(null, "10.0.0.1", now + SECOND)).isEqualTo(0);
+        assertThat(rateLimiter.tryAcquire(null, "10.0.0.1", now + 3 * SECOND)).isEqualTo(1);
+    }
+
+    @Test
+    void idleBucketRefillsOnlyUpToCapacity() {
+        long now = 1_000 * SECOND;
+        rateLimiter.tryAcquire(null, "10.0.0.2", now);
+
+        assertThat(rateLimiter.tryAcquire(null, "10.0.0.2", now + 60 * SECOND)).isEqualTo(2);
+    }
+
+    @Test
+    void bucketsAreKeptPerSubjectAndIp() {
+        long now = 1_000 * SECOND;
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryAcquire(null, "10.0.0.3", now);
+        }
+
+        assertThat(rateLimiter.tryAcquire(null, "10.0.0.3", now)).isNegative();
+        assertThat(rateLimiter.tryAcquire(null, "10.0.0.4", now)).isEqualTo(2);
+        assertThat(rateLimiter.tryAcquire(user("lhj", "ROLE_USER"), "10.0.0.3", now)).isEqualTo(4);
+    }
+
+    @Test
+    void largestAuthorityLimitIsUsed() {
+        Authentication admin = user("admin", "ROLE_USER", "ROLE_ADMIN");
+
+        assertThat(rateLimiter.capacityOf(admin)).isEqualTo(10);
+        assertThat(rateLimiter.capacityOf(user("nobody", "ROLE_GUEST"))).isEqualTo(3);
+        assertThat(rateLimiter.capacityOf(null)).isEqualTo(3);
+    }
+
+    @Test
+    void upgradedAuthoritiesUseNewLimitAndKeepUsage() {
+        long now = 1_000 * SECOND;
+        for (int i = 0; i < 5; i++) {
+            rateLimiter.tryAcquire(user("lhj", "ROLE_USER"), "10.0.0.6", now);
+        }
+        assertThat(rateLimiter.tryAcquire(user("lhj", "ROLE_USER"), "10.0.0.6", now)).isNegative();
+
+        //ROLE_ADMIN 이 추가된 토큰: 한도 10 중 5건을 이미 사용한 상태
+        Authentication admin = user("lhj", "ROLE_USER", "ROLE_ADMIN");
+        assertThat(rateLimiter.capacityOf(admin)).isEqualTo(10);
+        for (int remaining = 4; remaining >= 0; remaining--) {
+            assertThat(rateLimiter.tryAcquire(admin, "10.0.0.6", now)).isEqualTo(remaining);
+        }
+        assertThat(rateLimiter.tryAcquire(admin, "10.0.0.6", now)).isNegative();
+    }
+
+    @Test
+    void downgradedAuthoritiesUseNewLimitWithoutRefill() {
+        long now = 1_000 * SECOND;
+        Authentication admin = user("admin", "ROLE_USER", "ROLE_ADMIN");
+        for (int i = 0; i < 10; i++) {
+            rateLimiter.tryAcquire(admin, "10.0.0.7", now);
+        }
+
+        //ROLE_ADMIN 이 빠진 토큰: 한도 5의 빈 버킷, 1초에 1건씩 채워짐 (이전 버킷이면 0.5초, 새 버킷이면 바로 허용)
+        Authentication downgraded = user("admin", "ROLE_USER");
+        assertThat(rateLimiter.capacityOf(downgraded)).isEqualTo(5);
+        assertThat(rateLimiter.tryAcquire(downgraded, "10.0.0.7", now)).isEqualTo(-SECOND - 1);
+        assertThat(rateLimiter.tryAcquire(downgraded, "10.0.0.7", now + SECOND)).isEqualTo(0);
+
+        //이전 토큰으로 다시 요청하면 한도 10 중 5건을 사용한 상태 (버킷이 새로 차서 9가 남지 않음)
+        assertThat(rateLimiter.tryAcquire(admin, "10.0.0.7", now + SECOND)).isEqualTo(4);
+    }
+
+    @Test
+    void filterRejectsWithRetryAfterRoundedUpToSeconds() throws Exception {
+        RateLimitFilter filter = new RateLimitFilter(rateLimiter);
+        for (int i = 0; i < 3; i++) {
+            MockHttpServletResponse response = doFilter(filter);
+            assertThat(response.getStatus()).isEqualTo(200);
+            assertThat(response.getHeader("X-RateLimit-Remaining")).isEqualTo(String.valueOf(2 - i));
+        }
+
+        MockHttpServletResponse rejected = doFilter(filter);
+
+        assertThat(rejected.getStatus()).isEqualTo(429);
+        assertThat(rejected.getHeader("X-RateLimit-Limit")).isEqualTo("3");
+        assertThat(rejected.getHeader("X-RateLimit-Remaining")).isEqualTo("0");
+        //남은 대기 시간은 1초보다 조금 짧지만 올림하여 1
+        assertThat(rejected.getHeader("Retry-After")).isEqualTo("1");
+    }
+
+    private static MockHttpServletResponse doFilter(RateLimitFilter filter) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/user");
+        request.setRemoteAddr("10.0.0.5");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+
+    private static Authentication user(String username, String... authorities) {
+        return new UsernamePasswordAuthenticationToken(username, "", AuthorityUtils.createAuthorityList(authorities));
+    }
+}
@@ -0,0 +1,138 @@
+package com.example.jwt.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.AuthorityUtils;
+
+import java.util.Base64;
+import java.util.Date;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenDenylistTests {
+
+    private static final long VALIDITY_SECONDS = 1800;
+
+    private TokenDenylist tokenDenylist;
+    private TokenProvider tokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        JwtKeyRing keyRing = new JwtKeyRing(Base64.getEncoder().encodeToString(new byte[64]), new JwtKeyRingProperties(), VALIDITY_SECONDS);
+        keyRing.afterPropertiesSet();
+        tokenDenylist = new TokenDenylist(1000, VALIDITY_SECONDS);
+        //검증 캐시를 켜서 캐시된 결과도 폐기 여부를 다시 확인하는지 함께 확인
+        tokenProvider = new TokenProvider(keyRing, VALIDITY_SECONDS, true, 100,
+                tokenDenylist, false, null, new SimpleMeterRegistry());
+        tokenProvider.afterPropertiesSet();
+    }
+
+    @Test
+    void revokedJtiIsDeniedEvenWhenVerificationIsCached() {
+        String revoked = createToken("lhj");
+        String other = createToken("lhj");
+        TokenValidationResult verified = tokenProvider.verifyToken(revoked);
+        assertThat(verified.isValid()).isTrue();
+
+        tokenProvider.revokeToken(verified);
+
+        assertThat(tokenProvider.verifyToken(revoked).getFailureReason()).isEqualTo(TokenValidationResult.FailureReason.REVOKED);
+        //같은 유저의 다른 토큰(다른 jti)은 그대로 사용 가능
+        assertThat(tokenProvider.verifyToken(other).isValid()).isTrue();
+        assertThat(tokenDenylist.size()).isEqualTo(1);
+    }
+
+    @Test
+    void revokedBeforeDeniesOnlyTokensIssuedBeforeCutoffForThatUser() {
+        long now = System.currentTimeMillis();
+        tokenDenylist.revokeAllIssuedBefore("lhj", now);
+
+        assertThat(tokenDenylist.isRevoked(claims("lhj", now - 1000))).isTrue();
+        assertThat(tokenDenylist.isRevoked(claims("lhj", now + 1000))).isFalse();
+        assertThat(tokenDenylist.isRevoked(claims("admin", now - 1000))).isFalse();
+        //iat 가 없으면 언제 발급되었는지 알 수 없으므로 폐기된 것으로 처리
+        assertThat(tokenDenylist.isRevoked(claims("lhj", null))).isTrue();
+    }
+
+    @Test
+    void revokedBeforeDeniesTokensFromTokenProvider() {
+        String token = createToken("lhj");
+        //iat 는 초 단위이므로 같은 초에 발급된 토큰도 폐기됨
+        tokenDenylist.revokeAllIssuedBefore("lhj", System.currentTimeMillis() + 1);
+
+        assertThat(tokenProvider.verifyToken(token).getFailureReason()).isEqualTo(TokenValidationResult.FailureReason.REVOKED);
+        assertThat(tokenProvider.verifyToken(createToken("admin")).isValid()).isTrue();
+    }
+
+    @Test
+    void laterCutoffWins() {
+        long now = System.currentTimeMillis();
+        tokenDenylist.revokeAllIssuedBefore("lhj", now);
+        tokenDenylist.revokeAllIssuedBefore("lhj", now - 60_000);
+
+        assertThat(tokenDenylist.isRevoked(claims("lhj", now - 1000))).isTrue();
+    }
+
+    @Test
+    void expiredTokensAreNotStoredAndArePruned() {
+        long now = System.currentTimeMillis();
+        tokenDenylist.revoke("already-expired", now - 1);
+        assertThat(tokenDenylist.size()).isZero();
+
+        String kept = UUID.randomUUID().toString();
+        tokenDenylist.revoke(kept, now + 60_000);
+        tokenDenylist.revoke("expiring", now + 50);
+        assertThat(tokenDenylist.size()).isEqualTo(2);
+
+        await(now + 100);
+        tokenDenylist.prune();
+
+        assertThat(tokenDenylist.size()).isEqualTo(1);
+        //Bloom filter 를 다시 만든 뒤에도 남은 jti 는 계속 폐기 상태
+        assertThat(tokenDenylist.isRevoked(claims(kept, "lhj", now))).isTrue();
+        assertThat(tokenDenylist.isRevoked(claims("expiring", "lhj", now))).isFalse();
+    }
+
+    @Test
+    void bloomFilterHasNoFalseNegatives() {
+        TokenDenylist.BloomFilter bloomFilter = new TokenDenylist.BloomFilter(1000);
+        for (int i = 0; i < 1000; i++) {
+            bloomFilter.put("jti-" + i);
+        }
+        for (int i = 0; i < 1000; i++) {
+            assertThat(bloomFilter.mightContain("jti-" + i)).isTrue();
+        }
+    }
+
+    private String createToken(String username) {
+        return tokenProvider.createToken(new UsernamePasswordAuthenticationToken(username, null,
+                AuthorityUtils.createAuthorityList("ROLE_USER")));
+    }
+
+    private static Claims claims(String username, Long issuedAt) {
+        return claims(null, username, issuedAt);
+    }
+
+    private static Claims claims(String jti, String username, Long issuedAt) {
+        return Jwts.claims()
+                .setId(jti)
+                .setSubject(username)
+                .setIssuedAt(issuedAt != null ? new Date(issuedAt) : null);
+    }
+
+    private static void await(long untilMillis) {
+        while (System.currentTimeMillis() < untilMillis) {
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.jwt.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class VerifiedTokenCacheTests {
+
+    @Test
+    void hitsAndMissesArePublishedAsCacheMetrics() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        VerifiedTokenCache cache = new VerifiedTokenCache(100, meterRegistry);
+        Claims claims = Jwts.claims().setSubject("lhj").setExpiration(new Date(System.currentTimeMillis() + 60_000));
+
+        assertThat(cache.get("token-a")).isNull();
+        cache.put("token-a", TokenValidationResult.valid("token-a", claims));
+        assertThat(cache.get("token-a")).isNotNull();
+
+        assertThat(gets(meterRegistry, "hit")).isEqualTo(1);
+        assertThat(gets(meterRegistry, "miss")).isEqualTo(1);
+        assertThat(meterRegistry.get("cache.size").tag("cache", "jwt.verified-token").gauge().value()).isEqualTo(1);
+    }
+
+    private static double gets(SimpleMeterRegistry meterRegistry, String result) {
+        return meterRegistry.get("cache.gets").tag("cache", "jwt.verified-token").tag("result", result)
+                .functionCounter().count();
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.jwt.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LoginAttemptGuardTests {
+
+    private static final String IP = "10.0.0.16";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    void usernameIsLockedAfterMaxFailures() {
+        LoginAttemptGuard guard = guard(300, 300, 3, 50, 100);
+
+        guard.recordFailure("lhj", IP);
+        guard.recordFailure("lhj", IP);
+        assertThat(guard.checkBlocked("lhj", IP)).isZero();
+
+        guard.recordFailure("lhj", IP);
+        //Retry-After 로 쓰이는 남은 잠금 시간(초)
+        assertThat(guard.checkBlocked("lhj", IP)).isBetween(299L, 300L);
+        //대소문자만 다른 username 도 같은 계정으로 취급
+        assertThat(guard.checkBlocked("LHJ", IP)).isPositive();
+        //같은 IP 의 다른 계정은 IP 기준(50회)에 닿지 않았으므로 허용
+        assertThat(guard.checkBlocked("admin", IP)).isZero();
+
+        assertThat(meterRegistry.get("auth.login.attempts").tag("result", "blocked").tag("reason", "username").counter().count()).isEqualTo(2);
+        assertThat(meterRegistry.get("auth.login.attempts").tag("result", "allowed").counter().count()).isEqualTo(2);
+    }
+
+    @Test
+    void ipIsLockedAcrossUsernames() {
+        LoginAttemptGuard guard = guard(300, 300, 5, 3, 100);
+
+        guard.recordFailure("user-1", IP);
+        guard.recordFailure("user-2", IP);
+        guard.recordFailure("user-3", IP);
+
+        assertThat(guard.checkBlocked("admin", IP)).isPositive();
+        assertThat(guard.checkBlocked("admin", "10.0.0.99")).isZero();
+        assertThat(meterRegistry.get("auth.login.attempts").tag("reason", "ip").counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void lockoutEndsAfterLockoutSeconds() throws InterruptedException {
+        LoginAttemptGuard guard = guard(300, 1, 2, 50, 100);
+        guard.recordFailure("lhj", IP);
+        guard.recordFailure("lhj", IP);
+        assertThat(guard.checkBlocked("lhj", IP)).isEqualTo(1);
+
+        Thread.sleep(1100);
+
+        assertThat(guard.checkBlocked("lhj", IP)).isZero();
+    }
+
+    @Test
+    void failuresAreForgottenAfterTwoWindows() throws InterruptedException {
+        LoginAttemptGuard guard = guard(1, 300, 3, 50, 100);
+        guard.recordFailure("lhj", IP);
+        guard.recordFailure("lhj", IP);
+
+        //두 구간 이상 지나면 직전 구간 횟수도 버리므로 다시 1회부터 셈
+        Thread.sleep(2100);
+        guard.recordFailure("lhj", IP);
+        guard.recordFailure("lhj", IP);
+
+        assertThat(guard.checkBlocked("lhj", IP)).isZero();
+    }
+
+    @Test
+    void previousWindowStillCountsRightAfterBoundary() throws InterruptedException {
+        LoginAttemptGuard guard = guard(2, 300, 3, 50, 100);
+        guard.recordFailure("lhj", IP);
+        guard.recordFailure("lhj", IP);
+
+        //구간 경계를 조금 넘긴 시점: 직전 구간 2회 중 남은 비율만큼(약 1회)이 더해져 2회만 더 실패해도 잠김
+        Thread.sleep(2200);
+        guard.recordFailure("lhj", IP);
+        assertThat(guard.checkBlocked("lhj", IP)).isZero();
+        guard.recordFailure("lhj", IP);
+
+        assertThat(guard.checkBlocked("lhj", IP)).isPositive();
+    }
+
+    @Test
+    void successClearsUsernameFailures() {
+        LoginAttemptGuard guard = guard(300, 300, 3, 50, 100);
+        guard.recordFailure("lhj", IP);
+        guard.recordFailure("lhj", IP);
+
+        guard.recordSuccess("lhj");
+        guard.recordFailure("lhj", IP);
+
+        assertThat(guard.checkBlocked("lhj", IP)).isZero();
+    }
+
+    @Test
+    void trackedKeysAreBounded() {
+        LoginAttemptGuard guard = guard(300, 300, 1, 50, 2);
+        guard.recordFailure("user-1", "10.0.0.1");
+        guard.recordFailure("user-2", "10.0.0.2");
+        guard.recordFailure("user-3", "10.0.0.3");
+
+        assertThat(guard.checkBlocked("user-1", "10.0.0.9")).isPositive();
+        //추적 수 제한을 넘은 username 은 기록되지 않음
+        assertThat(guard.checkBlocked("user-3", "10.0.0.9")).isZero();
+        assertThat(meterRegistry.get("auth.login.guard.tracked").gauge().value()).isEqualTo(4);
+    }
+
+    private LoginAttemptGuard guard(long windowSeconds, long lockoutSeconds, int maxUsernameFailures, int maxIpFailures, int maxTrackedKeys) {
+        return new LoginAttemptGuard(windowSeconds, lockoutSeconds, maxUsernameFailures, maxIpFailures, maxTrackedKeys, meterRegistry);
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.jwt.service;
+
+import com.example.jwt.entity.RefreshToken;
+import com.example.jwt.repository.RefreshTokenRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+@ActiveProfiles("test")
+class RefreshTokenServiceTests {
+
+    private static final long VALIDITY_SECONDS = 3600;
+
+    @Autowired
+    private RefreshTokenService refreshTokenService;
+
+    @Autowired
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void rotationIssuesNewTokenOfSameUser() {
+        String refreshToken = refreshTokenService.issue("lhj");
+
+        RefreshTokenService.Rotation rotation = refreshTokenService.rotate(refreshToken);
+
+        assertThat(rotation.getUsername()).isEqualTo("lhj");
+        assertThat(rotation.getRefreshToken()).isNotEqualTo(refreshToken);
+        assertThat(refreshTokenService.rotate(rotation.getRefreshToken()).getUsername()).isEqualTo("lhj");
+    }
+
+    @Test
+    void reuseRevokesWholeFamily() {
+        String stolen = refreshTokenService.issue("lhj");
+        String current = refreshTokenService.rotate(stolen).getRefreshToken();
+        String otherLogin = refreshTokenService.issue("lhj");
+
+        assertThatThrownBy(() -> refreshTokenService.rotate(stolen)).isInstanceOf(BadCredentialsException.class);
+
+        //재사용이 감지된 로그인(계열)에서 발급된 최신 토큰도 폐기, 다른 로그인의 토큰은 유지
+        assertThatThrownBy(() -> refreshTokenService.rotate(current)).isInstanceOf(BadCredentialsException.class);
+        assertThat(refreshTokenService.rotate(otherLogin).getUsername()).isEqualTo("lhj");
+    }
+
+    //다른 서버가 이미 사용한 토큰은 이 서버의 메모리 캐시에 사용 전으로 남아 있어도 DB의 조건부 update로 재사용이 감지되어야 함
+    @Test
+    void reuseOnAnotherServerIsDetectedByConditionalUpdate() {
+        RefreshTokenService otherServer = new RefreshTokenService(refreshTokenRepository, transactionManager,
+                VALIDITY_SECONDS, 1000, 1000);
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        String refreshToken = refreshTokenService.issue("lhj");
+
+        String rotatedElsewhere = transactionTemplate.execute(status -> otherServer.rotate(refreshToken).getRefreshToken());
+
+        assertThatThrownBy(() -> refreshTokenService.rotate(refreshToken)).isInstanceOf(BadCredentialsException.class);
+        assertThatThrownBy(() -> transactionTemplate.execute(status -> otherServer.rotate(rotatedElsewhere)))
+                .isInstanceOf(BadCredentialsException.class);
+    }
+
+    @Test
+    void logoutRevokesOwnFamily() {
+        String refreshToken = refreshTokenService.issue("lhj");
+        String current = refreshTokenService.rotate(refreshToken).getRefreshToken();
+
+        refreshTokenService.revoke(refreshToken, "lhj");
+
+        assertThatThrownBy(() -> refreshTokenService.rotate(current)).isInstanceOf(BadCredentialsException.class);
+    }
+
+    //다른 유저의 refresh token을 전달해도 그 유저의 로그인(계열)은 유지
+    @Test
+    void logoutIgnoresAnotherUsersToken() {
+        String victim = refreshTokenService.issue("admin");
+
+        refreshTokenService.revoke(victim, "lhj");
+
+        assertThat(refreshTokenService.rotate(victim).getUsername()).isEqualTo("admin");
+    }
+
+    @Test
+    void unknownTokenIsRejected() {
+        assertThatThrownBy(() -> refreshTokenService.rotate("unknown")).isInstanceOf(BadCredentialsException.class);
+    }
+
+    @Test
+    void expiredTokensAreDeletedInSeparatelyCommittedBatches() {
+        AtomicInteger commits = new AtomicInteger();
+        RefreshTokenService service = new RefreshTokenService(refreshTokenRepository,
+                countingCommits(transactionManager, commits), VALIDITY_SECONDS, 2, 1000);
+        long now = System.currentTimeMillis();
+        for (int i = 0; i < 5; i++) {
+            refreshTokenRepository.save(token(now - 1000));
+        }
+        RefreshToken valid = refreshTokenRepository.save(token(now + 60_000));
+
+        service.removeExpiredTokens();
+
+        //2건씩 3번 (2, 2, 1), batch 마다 따로 커밋
+        assertThat(commits).hasValue(3);
+        assertThat(refreshTokenRepository.findAll())
+                .allSatisfy(refreshToken -> assertThat(refreshToken.getExpiresAt()).isGreaterThan(now))
+                .anySatisfy(refreshToken -> assertThat(refreshToken.getTokenHash()).isEqualTo(valid.getTokenHash()));
+    }
+
+    private static RefreshToken token(long expiresAt) {
+        return RefreshToken.builder()
+                .tokenHash(UUID.randomUUID().toString().replace("-", ""))
+                .username("lhj")
+                .familyId(UUID.randomUUID().toString())
+                .expiresAt(expiresAt)
+                .used(false)
+                .build();
+    }
+
+    private static PlatformTransactionManager countingCommits(PlatformTransactionManager delegate, AtomicInteger commits) {
+        return new PlatformTransactionManager() {
+            @Override
+            public TransactionStatus getTransaction(TransactionDefinition definition) {
+                return delegate.getTransaction(definition);
+            }
+
+            @Override
+            public void commit(TransactionStatus status) {
+                commits.incrementAndGet();
+                delegate.commit(status);
+            }
+
+            @Override
+            public void rollback(TransactionStatus status) {
+                delegate.rollback(status);
+            }
+        };
+    }
+}
@@ -0,0 +1,198 @@
+package com.example.jwt.service;
+
+import com.example.jwt.repository.UserAuthorityRow;
+import com.example.jwt.repository.UserRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserCacheTests {
+
+    private static final int MAXIMUM_SIZE = 10;
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    private UserRepository userRepository;
+    private MeterRegistry meterRegistry;
+    private UserCache userCache;
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        meterRegistry = new SimpleMeterRegistry();
+        userCache = new UserCache(userRepository, MAXIMUM_SIZE, 300, meterRegistry);
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void cachedSnapshotIsReturnedWithoutDbLookup() {
+        when(userRepository.findAuthorityRowsByUsername("lhj")).thenReturn(rows("lhj"));
+
+        assertThat(userCache.get("lhj")).map(UserCache.Snapshot::getNickname).hasValue("lhj");
+        assertThat(userCache.get("lhj")).isPresent();
+        assertThat(userCache.get("nobody")).isEmpty();
+
+        verify(userRepository, times(1)).findAuthorityRowsByUsername("lhj");
+    }
+
+    //캐시에 없는 같은 username을 여러 스레드가 동시에 조회하면 DB 조회는 한 번
+    @Test
+    void concurrentLookupsForSameUsernameAreCoalesced() throws Exception {
+        CountDownLatch release = blockingLoad("lhj", rows("lhj"));
+        Future<Optional<UserCache.Snapshot>> leader = executor.submit(() -> userCache.get("lhj"));
+        awaitInFlight(1);
+        List<Future<Optional<UserCache.Snapshot>>> followers = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            followers.add(executor.submit(() -> userCache.get("lhj")));
+        }
+        awaitCoalesced(7);
+
+        release.countDown();
+
+        UserCache.Snapshot snapshot = leader.get(5, TimeUnit.SECONDS).get();
+        for (Future<Optional<UserCache.Snapshot>> follower : followers) {
+            assertThat(follower.get(5, TimeUnit.SECONDS)).containsSame(snapshot);
+        }
+        verify(userRepository, times(1)).findAuthorityRowsByUsername("lhj");
+    }
+
+    //조회 중에 invalidate 되면 변경 전일 수 있는 결과를 캐시하지 않고, 다음 조회는 DB에서 다시 가져옴
+    @Test
+    void lookupRacingWithInvalidateIsNotCached() throws Exception {
+        CountDownLatch release = blockingLoad("lhj", rows("lhj"));
+        Future<Optional<UserCache.Snapshot>> stale = executor.submit(() -> userCache.get("lhj"));
+        awaitInFlight(1);
+
+        userCache.invalidate("lhj");
+        release.countDown();
+        assertThat(stale.get(5, TimeUnit.SECONDS)).isPresent();
+
+        when(userRepository.findAuthorityRowsByUsername("lhj")).thenReturn(rows("renamed"));
+        assertThat(userCache.get("lhj")).map(UserCache.Snapshot::getNickname).hasValue("renamed");
+        assertThat(userCache.get("lhj")).map(UserCache.Snapshot::getNickname).hasValue("renamed");
+        verify(userRepository, times(2)).findAuthorityRowsByUsername("lhj");
+    }
+
+    //조회 중 Error가 나도 기다리던 스레드에 전달되고, 이후 같은 username 조회가 멈추지 않아야 함
+    @Test
+    void errorInLookupIsPropagatedAndDoesNotBlockLaterLookups() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(userRepository.findAuthorityRowsByUsername("lhj"))
+                .thenAnswer(invocation -> {
+                    started.countDown();
+                    release.await();
+                    throw new StackOverflowError();
+                })
+                .thenReturn(rows("lhj"));
+        Future<Optional<UserCache.Snapshot>> leader = executor.submit(() -> userCache.get("lhj"));
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        Future<Optional<UserCache.Snapshot>> follower = executor.submit(() -> userCache.get("lhj"));
+        awaitCoalesced(1);
+
+        release.countDown();
+
+        assertThatThrownBy(() -> leader.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class).hasCauseInstanceOf(StackOverflowError.class);
+        assertThatThrownBy(() -> follower.get(5, TimeUnit.SECONDS))
+                .isInstanceOf(ExecutionException.class).hasCauseInstanceOf(StackOverflowError.class);
+        assertThat(assertTimeoutPreemptively(TIMEOUT, () -> userCache.get("lhj"))).isPresent();
+    }
+
+    @Test
+    void profileVersionIncreasesOnEveryChange() {
+        long initial = userCache.getProfileVersion("lhj");
+
+        userCache.invalidate("lhj");
+        long changed = userCache.getProfileVersion("lhj");
+        userCache.invalidate("lhj");
+
+        assertThat(changed).isGreaterThan(initial);
+        assertThat(userCache.getProfileVersion("lhj")).isGreaterThan(changed);
+        assertThat(userCache.getProfileVersion("admin")).isEqualTo(initial);
+    }
+
+    //변경된 유저가 최대 크기를 넘어 목록에서 밀려나도, 변경 전에 발급된 토큰의 버전으로 돌아가면 안 됨
+    @Test
+    void evictedProfileVersionNeverMatchesTokensIssuedBeforeTheChange() {
+        long beforeChange = userCache.getProfileVersion("lhj");
+        userCache.invalidate("lhj");
+        long afterChange = userCache.getProfileVersion("lhj");
+
+        for (int i = 0; i < MAXIMUM_SIZE * 10; i++) {
+            userCache.invalidate("user-" + i);
+        }
+        //Caffeine은 최대 크기 초과분을 기본 executor(ForkJoinPool.commonPool)에서 정리함
+        ForkJoinPool.commonPool().awaitQuiescence(5, TimeUnit.SECONDS);
+
+        //목록에서 밀려난 유저는 변경된 적 없는 유저와 같은 기준 버전을 사용 (버전 목록은 최대 크기로 제한됨)
+        long base = userCache.getProfileVersion("never-changed");
+        assertThat(IntStream.range(0, MAXIMUM_SIZE * 10)
+                .filter(i -> userCache.getProfileVersion("user-" + i) == base)
+                .count()).isGreaterThan(0);
+
+        assertThat(userCache.getProfileVersion("lhj")).isNotEqualTo(beforeChange).isGreaterThanOrEqualTo(afterChange);
+        userCache.invalidate("lhj");
+        assertThat(userCache.getProfileVersion("lhj")).isGreaterThan(afterChange);
+    }
+
+    //release 될 때까지 DB 조회가 끝나지 않도록 설정
+    private CountDownLatch blockingLoad(String username, List<UserAuthorityRow> rows) {
+        CountDownLatch release = new CountDownLatch(1);
+        when(userRepository.findAuthorityRowsByUsername(username)).thenAnswer(invocation -> {
+            release.await();
+            return rows;
+        });
+        return release;
+    }
+
+    private void awaitInFlight(int expected) {
+        await(() -> meterRegistry.get("user.lookup.in-flight").gauge().value() >= expected);
+    }
+
+    private void awaitCoalesced(int expected) {
+        await(() -> meterRegistry.get("user.lookup.coalesced").counter().count() >= expected);
+    }
+
+    private static void await(BooleanSupplier condition) {
+        assertTimeoutPreemptively(TIMEOUT, () -> {
+            while (!condition.getAsBoolean()) {
+                Thread.sleep(1);
+            }
+        });
+    }
+
+    private static List<UserAuthorityRow> rows(String nickname) {
+        return Collections.singletonList(new UserAuthorityRow("lhj", "{bcrypt}hash", nickname, true, "ROLE_USER"));
+    }
+}
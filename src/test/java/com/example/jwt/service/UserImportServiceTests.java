@@ -0,0 +1,90 @@
+package com.example.jwt.service;
+
+import com.example.jwt.dto.UserImportResultDto;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+//chunk 경계를 넘는 경우도 확인하기 위해 chunk-size를 작게 설정
+@SpringBootTest(properties = {
+        "auth.user-import.chunk-size=2",
+        "auth.user-import.max-reported-errors=4"
+})
+@ActiveProfiles("test")
+class UserImportServiceTests {
+
+    @Autowired
+    private UserImportService userImportService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void failedRowsAreReportedAndOtherRowsAreImported() throws IOException {
+        UserImportResultDto result = importUsers(
+                user("import-1", "first"),
+                "{not json",
+                user("x", "too-short-username"),
+                "",
+                user("import-1", "duplicate-in-request"),
+                user("admin", "already-registered"),
+                user("import-2", "second"));
+
+        //빈 줄은 total 에서 제외, 줄 번호는 빈 줄을 포함한 원문 기준
+        assertThat(result.getTotal()).isEqualTo(6);
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getFailed()).isEqualTo(4);
+        assertThat(result.isErrorsTruncated()).isFalse();
+        assertThat(result.getErrors())
+                .extracting(UserImportResultDto.ErrorDto::getLine, UserImportResultDto.ErrorDto::getUsername)
+                .containsExactly(
+                        tuple(2, null),
+                        tuple(3, "x"),
+                        tuple(5, "import-1"),
+                        tuple(6, "admin"));
+        assertThat(result.getErrors().get(0).getMessage()).isEqualTo("JSON 형식이 올바르지 않습니다.");
+        assertThat(result.getErrors().get(1).getMessage()).startsWith("username: ");
+        assertThat(result.getErrors().get(2).getMessage()).isEqualTo("요청에 중복된 username 입니다.");
+        assertThat(result.getErrors().get(3).getMessage()).isEqualTo("이미 가입되어 있는 유저입니다.");
+
+        //먼저 나온 row 가 등록되고 ROLE_USER 권한이 부여됨
+        assertThat(jdbcTemplate.queryForObject(
+                "select nickname from users where username = 'import-1'", String.class)).isEqualTo("first");
+        assertThat(jdbcTemplate.queryForList(
+                "select a.authority_name from user_authority a join users u on u.user_id = a.user_id"
+                        + " where u.username in ('import-1', 'import-2')", String.class))
+                .containsExactly("ROLE_USER", "ROLE_USER");
+        //이미 가입된 유저는 변경되지 않음
+        assertThat(jdbcTemplate.queryForObject(
+                "select nickname from users where username = 'admin'", String.class)).isNotEqualTo("already-registered");
+    }
+
+    @Test
+    void reportedErrorsAreTruncatedButStillCounted() throws IOException {
+        UserImportResultDto result = importUsers("{", "{", "{", "{", "{", "{", user("import-3", "third"));
+
+        assertThat(result.getTotal()).isEqualTo(7);
+        assertThat(result.getImported()).isEqualTo(1);
+        assertThat(result.getFailed()).isEqualTo(6);
+        assertThat(result.getErrors()).hasSize(4);
+        assertThat(result.isErrorsTruncated()).isTrue();
+    }
+
+    private UserImportResultDto importUsers(String... lines) throws IOException {
+        byte[] body = String.join("\n", lines).getBytes(StandardCharsets.UTF_8);
+        return userImportService.importUsers(new ByteArrayInputStream(body));
+    }
+
+    private static String user(String username, String nickname) {
+        return "{\"username\":\"" + username + "\",\"password\":\"password\",\"nickname\":\"" + nickname + "\"}";
+    }
+}
@@ -0,0 +1,78 @@
+package com.example.jwt.service;
+
+import com.example.jwt.dto.UserInfoDto;
+import com.example.jwt.entity.Authority;
+import com.example.jwt.jwt.TokenProfile;
+import com.example.jwt.jwt.TokenProvider;
+import com.example.jwt.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.AuthorityUtils;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.persistence.EntityManager;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest(properties = "jwt.profile-claim.enabled=true")
+@ActiveProfiles("test")
+class UserServiceTests {
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private TokenProvider tokenProvider;
+
+    @Autowired
+    private UserCache userCache;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void authorityChangeInvalidatesProfileClaimsOfEarlierTokens() {
+        Authentication before = authenticate("lhj");
+        assertThat(before.getDetails()).isInstanceOf(TokenProfile.class);
+        assertThat(authorityNames(userService.getMyUserWithAuthorities(before).orElseThrow())).containsExactly("ROLE_USER");
+
+        //users 컬럼은 그대로 두고 권한만 추가
+        new TransactionTemplate(transactionManager).executeWithoutResult(status -> userRepository
+                .findOneWithAuthoritiesByUsername("lhj").orElseThrow()
+                .getAuthorities().add(entityManager.find(Authority.class, "ROLE_ADMIN")));
+
+        //변경 전에 발급된 토큰은 클레임의 권한(ROLE_USER)이 아닌 DB의 현재 권한으로 응답
+        assertThat(authorityNames(userService.getMyUserWithAuthorities(before).orElseThrow()))
+                .containsExactly("ROLE_ADMIN", "ROLE_USER");
+        //변경 후 발급된 토큰은 다시 클레임만으로 응답할 수 있음
+        Authentication after = authenticate("lhj");
+        assertThat(((TokenProfile) after.getDetails()).getVersion()).isEqualTo(userCache.getProfileVersion("lhj"));
+    }
+
+    //로그인과 같이 현재 권한으로 토큰을 발급하고, JwtFilter와 같이 토큰에서 인증 정보를 만듦
+    private Authentication authenticate(String username) {
+        String[] authorities = authorityNames(userService.getUserWithAuthorities(username).orElseThrow()).toArray(new String[0]);
+        String token = tokenProvider.createToken(new UsernamePasswordAuthenticationToken(username, null,
+                AuthorityUtils.createAuthorityList(authorities)));
+        return tokenProvider.getAuthentication(token);
+    }
+
+    private static List<String> authorityNames(UserInfoDto userInfo) {
+        return userInfo.getAuthorities().stream()
+                .map(UserInfoDto.AuthorityDto::getAuthorityName)
+                .collect(Collectors.toList());
+    }
+}
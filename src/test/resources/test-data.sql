@@ -0,0 +1,2 @@
+--data.sql 이후 실행 (application-test.yml), data.sql은 user_id를 직접 넣으므로 회원가입이 같은 id를 받지 않도록 시퀀스를 넘김
+ALTER TABLE USERS ALTER COLUMN USER_ID RESTART WITH 100;